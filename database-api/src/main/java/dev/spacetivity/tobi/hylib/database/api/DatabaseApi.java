@@ -2,8 +2,11 @@ package dev.spacetivity.tobi.hylib.database.api;
 
 import dev.spacetivity.tobi.hylib.database.api.cache.CacheLoader;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnectionHandler;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolMetrics;
 import dev.spacetivity.tobi.hylib.database.api.repository.RepositoryLoader;
 import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskScheduler;
+import dev.spacetivity.tobi.hylib.database.api.transaction.TransactionCallback;
+import dev.spacetivity.tobi.hylib.database.api.transaction.TransactionContext;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -20,6 +23,11 @@ public interface DatabaseApi {
     /**
      * Returns the executor service for asynchronous tasks.
      *
+     * <p>Once a connection is established, the executor admits at most as many concurrent tasks as the
+     * connection pool has connections. Further tasks wait in a bounded queue; when the queue is full,
+     * submitting throws {@link java.util.concurrent.RejectedExecutionException} right away, so callers
+     * can shed load instead of waiting for connection timeouts.
+     *
      * @return the executor service, never null
      */
     ExecutorService getExecutorService();
@@ -54,6 +62,7 @@ public interface DatabaseApi {
      * @param runnable the task to execute
      * @return a Future representing the task
      * @throws NullPointerException if runnable is null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is saturated
      */
     Future<?> execute(Runnable runnable);
 
@@ -61,8 +70,8 @@ public interface DatabaseApi {
      * Returns the task scheduler for delayed and periodic execution.
      *
      * <p>The scheduler provides timing capabilities (delays and fixed-rate execution).
-     * Actual task execution is delegated to the {@link #getExecutorService()} and therefore
-     * typically runs on virtual threads.</p>
+     * Actual task execution runs on virtual threads, outside the admission limit of
+     * {@link #getExecutorService()}.</p>
      *
      * <p>The scheduler is provided by this {@link DatabaseApi} but may be used for
      * arbitrary scheduling purposes, not limited to database-specific tasks.</p>
@@ -74,4 +83,42 @@ public interface DatabaseApi {
      */
     TaskScheduler getScheduler();
 
+    /**
+     * Returns the statistics of the primary database connection pool.
+     *
+     * <p>Use this to see whether callers are queuing for connections ({@link PoolMetrics#pendingThreads()})
+     * and how long acquiring a connection takes.
+     *
+     * @return the pool metrics, or null if no connection has been established
+     * @see PoolMetrics
+     */
+    PoolMetrics getPoolMetrics();
+
+    /**
+     * Runs the callback in a transaction on one connection of the primary database.
+     *
+     * <p>The connection is bound to the current thread for the duration of the callback; all
+     * repository calls made on this thread join the transaction instead of taking their own connection
+     * and committing on their own. The transaction is committed when the callback returns and rolled back
+     * when it throws. Nested calls join the outer transaction.
+     *
+     * <h3>Example</h3>
+     *
+     * <pre>{@code
+     * DatabaseProvider.getApi().inTransaction(connection -> {
+     *     playerRepository.delete(PLAYER_ID_COL, uuidBytes);
+     *     auditRepository.insert(new AuditEntry(uuid, "deleted"));
+     *     return null;
+     * });
+     * }</pre>
+     *
+     * @param <R>      the result type
+     * @param callback the transactional work
+     * @return the callback's result
+     * @throws NullPointerException if callback is null
+     * @throws RuntimeException     if the callback or the commit fails; the transaction is rolled back
+     * @see TransactionContext
+     */
+    <R> R inTransaction(TransactionCallback<R> callback);
+
 }
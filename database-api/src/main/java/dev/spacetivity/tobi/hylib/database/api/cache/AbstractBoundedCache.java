@@ -0,0 +1,414 @@
+package dev.spacetivity.tobi.hylib.database.api.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe in-memory cache with a maximum size and optional expiration.
+ *
+ * <p>Unlike {@link AbstractThreadSafeInMemoryCache}, this cache does not grow without limit. When it
+ * exceeds {@code maximumSize}, entries are evicted using a segmented LRU policy: new entries start in a
+ * probation segment and move to a protected segment (80% of the capacity) when they are read again.
+ * Eviction takes the least recently used probation entry first, so a burst of one-off lookups cannot
+ * push out entries that are read repeatedly.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * public class OfflinePlayerCache extends AbstractBoundedCache<UUID, HyPlayer> {
+ *
+ *     public OfflinePlayerCache() {
+ *         super(10_000, Duration.ofMinutes(10), null); // at most 10k entries, 10 min after write
+ *     }
+ * }
+ *
+ * OfflinePlayerCache cache = new OfflinePlayerCache();
+ * cache.addEvictionListener((uuid, player, cause) -> logger.fine("Evicted " + uuid + ": " + cause));
+ * cacheLoader.register(cache);
+ * }</pre>
+ *
+ * <h3>Expiration</h3>
+ *
+ * <p>Entries expire a fixed time after they were written ({@code expireAfterWrite}) and/or after they
+ * were last read or written ({@code expireAfterAccess}). Expired entries are removed when they are read,
+ * or all at once by {@link #cleanUp()}, e.g. from a periodic
+ * {@link dev.spacetivity.tobi.hylib.database.api.scheduler.TaskScheduler} task.
+ *
+ * <h3>Concurrency</h3>
+ *
+ * <p>Reads are served from a {@link ConcurrentHashMap} without locking. Writes and the recency
+ * bookkeeping of the eviction policy take a single lock; a read that finds the lock busy skips its
+ * bookkeeping instead of waiting, which keeps reads non-blocking at the cost of slightly approximate
+ * recency under contention.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @see Cache
+ * @see EvictionListener
+ * @see CacheLoader
+ * @since 1.0
+ */
+public abstract class AbstractBoundedCache<K, V> implements Cache<K, V> {
+
+    private final ConcurrentMap<K, Node<K, V>> dataMap = new ConcurrentHashMap<>();
+    private final List<EvictionListener<? super K, ? super V>> evictionListeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final int maximumSize;
+    private final int protectedCapacity;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+
+    // Sentinels of the two circular LRU lists; head.next is the least recently used entry
+    private final Node<K, V> probation = Node.sentinel();
+    private final Node<K, V> protectedSegment = Node.sentinel();
+    private int protectedSize;
+
+    private volatile StatsCounter statsCounter;
+
+    /**
+     * Creates a cache that only evicts by size.
+     *
+     * @param maximumSize the maximum number of entries (must be positive)
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    protected AbstractBoundedCache(int maximumSize) {
+        this(maximumSize, null, null);
+    }
+
+    /**
+     * Creates a cache that evicts by size and expiration.
+     *
+     * @param maximumSize       the maximum number of entries (must be positive)
+     * @param expireAfterWrite  how long an entry lives after it was written, or null for no limit
+     * @param expireAfterAccess how long an entry lives after it was last read or written, or null for no limit
+     * @throws IllegalArgumentException if maximumSize is not positive or a duration is not positive
+     */
+    protected AbstractBoundedCache(int maximumSize, Duration expireAfterWrite, Duration expireAfterAccess) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.protectedCapacity = (int) (maximumSize * 0.8);
+        this.expireAfterWriteNanos = toNanos(expireAfterWrite);
+        this.expireAfterAccessNanos = toNanos(expireAfterAccess);
+    }
+
+    private static long toNanos(Duration duration) {
+        if (duration == null) {
+            return 0;
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Expiration must be positive");
+        }
+        return duration.toNanos();
+    }
+
+    /**
+     * Registers a listener that is notified about every entry evicted by size or expiration.
+     *
+     * @param listener the listener
+     * @throws NullPointerException if listener is null
+     */
+    public void addEvictionListener(EvictionListener<? super K, ? super V> listener) {
+        if (listener == null) {
+            throw new NullPointerException("Listener cannot be null");
+        }
+        this.evictionListeners.add(listener);
+    }
+
+    @Override
+    public void insert(K key, V value) {
+        List<Node<K, V>> evicted = new ArrayList<>();
+        long now = System.nanoTime();
+
+        this.lock.lock();
+        try {
+            Node<K, V> node = this.dataMap.get(key);
+            if (node != null) {
+                node.value = value;
+                node.writeNanos = now;
+                node.accessNanos = now;
+                onAccess(node);
+            } else {
+                node = new Node<>(key, value, now);
+                this.dataMap.put(key, node);
+                node.linkLast(this.probation);
+                evictOverflow(evicted);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        notifyEvicted(evicted, EvictionCause.SIZE);
+    }
+
+    @Override
+    public boolean update(K key, V value) {
+        long now = System.nanoTime();
+        Node<K, V> expired = null;
+
+        this.lock.lock();
+        try {
+            Node<K, V> node = this.dataMap.get(key);
+            if (node == null) {
+                return false;
+            }
+            if (isExpired(node, now)) {
+                removeNode(node);
+                expired = node;
+                return false;
+            }
+            node.value = value;
+            node.writeNanos = now;
+            node.accessNanos = now;
+            return true;
+        } finally {
+            this.lock.unlock();
+            if (expired != null) {
+                notifyEvicted(List.of(expired), EvictionCause.EXPIRED);
+            }
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        this.lock.lock();
+        try {
+            Node<K, V> node = this.dataMap.get(key);
+            if (node != null) {
+                removeNode(node);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public V getValue(K key) {
+        Node<K, V> node = this.dataMap.get(key);
+        StatsCounter counter = this.statsCounter;
+        if (node == null) {
+            if (counter != null) {
+                counter.recordLookup(false);
+            }
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (isExpired(node, now)) {
+            boolean removed = false;
+            boolean refreshed = false;
+            V value = null;
+            this.lock.lock();
+            try {
+                // insert() reuses the node on overwrite, so a put may have refreshed it since the check above
+                if (this.dataMap.get(key) == node) {
+                    if (isExpired(node, now)) {
+                        removeNode(node);
+                        removed = true;
+                    } else {
+                        refreshed = true;
+                        value = node.value;
+                    }
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            if (counter != null) {
+                counter.recordLookup(refreshed);
+            }
+            if (removed) {
+                notifyEvicted(List.of(node), EvictionCause.EXPIRED);
+            }
+            return value;
+        }
+
+        if (counter != null) {
+            counter.recordLookup(true);
+        }
+        node.accessNanos = now;
+        if (this.lock.tryLock()) {
+            try {
+                if (this.dataMap.get(key) == node) {
+                    onAccess(node);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Starts recording hit, miss, eviction and load statistics, available via {@link #getStats()}.
+     * Recording stays on until the cache is discarded; calling this again has no effect.
+     */
+    public synchronized void recordStats() {
+        if (this.statsCounter == null) {
+            this.statsCounter = new StatsCounter();
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        StatsCounter counter = this.statsCounter;
+        return counter != null ? counter.snapshot() : null;
+    }
+
+    // For subclasses that load values, null while statistics are off
+    StatsCounter getStatsCounter() {
+        return this.statsCounter;
+    }
+
+    /**
+     * Returns the number of entries, including expired entries that were not removed yet.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return this.dataMap.size();
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Removes all expired entries and notifies the eviction listeners.
+     *
+     * <p>Expired entries are otherwise only removed when they are read. The cache never calls this itself:
+     * the owner of a cache with expiration must schedule it periodically, or entries that are never read
+     * again stay in memory until they are evicted by size.
+     */
+    public void cleanUp() {
+        if (this.expireAfterWriteNanos == 0 && this.expireAfterAccessNanos == 0) {
+            return;
+        }
+
+        List<Node<K, V>> expired = new ArrayList<>();
+        long now = System.nanoTime();
+
+        this.lock.lock();
+        try {
+            for (Node<K, V> node : this.dataMap.values()) {
+                if (isExpired(node, now)) {
+                    removeNode(node);
+                    expired.add(node);
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        notifyEvicted(expired, EvictionCause.EXPIRED);
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (this.expireAfterWriteNanos > 0 && now - node.writeNanos >= this.expireAfterWriteNanos)
+                || (this.expireAfterAccessNanos > 0 && now - node.accessNanos >= this.expireAfterAccessNanos);
+    }
+
+    // Lock must be held
+    private void onAccess(Node<K, V> node) {
+        node.unlink();
+        if (!node.protectedEntry) {
+            node.protectedEntry = true;
+            this.protectedSize++;
+        }
+        node.linkLast(this.protectedSegment);
+
+        // Demote the least recently used protected entries back to probation
+        while (this.protectedSize > this.protectedCapacity) {
+            Node<K, V> demoted = this.protectedSegment.next;
+            demoted.unlink();
+            demoted.protectedEntry = false;
+            this.protectedSize--;
+            demoted.linkLast(this.probation);
+        }
+    }
+
+    // Lock must be held
+    private void evictOverflow(List<Node<K, V>> evicted) {
+        while (this.dataMap.size() > this.maximumSize) {
+            Node<K, V> victim = this.probation.next != this.probation ? this.probation.next : this.protectedSegment.next;
+            removeNode(victim);
+            evicted.add(victim);
+        }
+    }
+
+    // Lock must be held
+    private void removeNode(Node<K, V> node) {
+        this.dataMap.remove(node.key, node);
+        node.unlink();
+        if (node.protectedEntry) {
+            node.protectedEntry = false;
+            this.protectedSize--;
+        }
+    }
+
+    private void notifyEvicted(List<Node<K, V>> evicted, EvictionCause cause) {
+        StatsCounter counter = this.statsCounter;
+        if (counter != null && !evicted.isEmpty()) {
+            counter.recordEvictions(evicted.size());
+        }
+        if (evicted.isEmpty() || this.evictionListeners.isEmpty()) {
+            return;
+        }
+        for (Node<K, V> node : evicted) {
+            for (EvictionListener<? super K, ? super V> listener : this.evictionListeners) {
+                listener.onEviction(node.key, node.value, cause);
+            }
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private volatile long writeNanos;
+        private volatile long accessNanos;
+        private boolean protectedEntry;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long now) {
+            this.key = key;
+            this.value = value;
+            this.writeNanos = now;
+            this.accessNanos = now;
+        }
+
+        private static <K, V> Node<K, V> sentinel() {
+            Node<K, V> sentinel = new Node<>(null, null, 0);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        private void linkLast(Node<K, V> head) {
+            this.prev = head.prev;
+            this.next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        private void unlink() {
+            if (this.prev != null) {
+                this.prev.next = this.next;
+                this.next.prev = this.prev;
+                this.prev = null;
+                this.next = null;
+            }
+        }
+    }
+}
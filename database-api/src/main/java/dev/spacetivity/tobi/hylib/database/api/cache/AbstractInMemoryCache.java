@@ -1,5 +1,6 @@
 package dev.spacetivity.tobi.hylib.database.api.cache;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.HashMap;
@@ -18,6 +19,8 @@ import java.util.Map;
 public abstract class AbstractInMemoryCache<K, V> implements Cache<K, V> {
 
     private final Map<K, V> dataMap = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private volatile StatsCounter statsCounter;
 
     @Override
     public void insert(K key, V value) {
@@ -40,7 +43,28 @@ public abstract class AbstractInMemoryCache<K, V> implements Cache<K, V> {
 
     @Override
     public V getValue(K key) {
-        return this.dataMap.get(key);
+        V value = this.dataMap.get(key);
+        StatsCounter counter = this.statsCounter;
+        if (counter != null) {
+            counter.recordLookup(value != null);
+        }
+        return value;
+    }
+
+    /**
+     * Starts recording hit and miss statistics, available via {@link #getStats()}. Recording stays on
+     * until the cache is discarded; calling this again has no effect.
+     */
+    public synchronized void recordStats() {
+        if (this.statsCounter == null) {
+            this.statsCounter = new StatsCounter();
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        StatsCounter counter = this.statsCounter;
+        return counter != null ? counter.snapshot() : null;
     }
 
 }
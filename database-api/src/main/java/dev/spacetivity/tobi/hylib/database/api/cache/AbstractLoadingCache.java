@@ -0,0 +1,174 @@
+package dev.spacetivity.tobi.hylib.database.api.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded read-through cache that deduplicates concurrent loads and remembers missing keys.
+ *
+ * <p>On a miss, {@link #get(Object)} calls {@link #load(Object)} once per key: callers that miss the same
+ * key while a load is in flight receive the same result instead of starting another load. Found values are
+ * inserted into the cache; keys that were not found are remembered for {@code negativeTtl}, so repeated
+ * lookups of unknown keys do not hit the database either. {@link #insert(Object, Object)} and
+ * {@link #remove(Object)} drop a remembered miss.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * public class OfflinePlayerCache extends AbstractLoadingCache<UUID, HyPlayer> {
+ *
+ *     private final HyPlayerRepository repository;
+ *
+ *     public OfflinePlayerCache(HyPlayerRepository repository) {
+ *         super(10_000, Duration.ofMinutes(10), Duration.ofSeconds(30));
+ *         this.repository = repository;
+ *     }
+ *
+ *     @Override
+ *     protected CompletableFuture<HyPlayer> load(UUID uuid) {
+ *         return repository.getAsync(HyPlayerRepository.PLAYER_ID_COL, uuid);
+ *     }
+ * }
+ *
+ * offlinePlayerCache.get(uuid).thenAccept(player -> { ... });
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @see LoadingCache
+ * @see AbstractBoundedCache
+ * @since 1.0
+ */
+public abstract class AbstractLoadingCache<K, V> extends AbstractBoundedCache<K, V> implements LoadingCache<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Long> missingKeys = new ConcurrentHashMap<>();
+    private final long negativeTtlNanos;
+
+    /**
+     * Creates a loading cache.
+     *
+     * @param maximumSize      the maximum number of cached values, also the maximum number of remembered misses
+     * @param expireAfterWrite how long a loaded value stays cached, or null for no limit
+     * @param negativeTtl      how long a missing key is remembered, or null to not remember misses
+     * @throws IllegalArgumentException if maximumSize is not positive or a duration is not positive
+     */
+    protected AbstractLoadingCache(int maximumSize, Duration expireAfterWrite, Duration negativeTtl) {
+        super(maximumSize, expireAfterWrite, null);
+        if (negativeTtl != null && (negativeTtl.isNegative() || negativeTtl.isZero())) {
+            throw new IllegalArgumentException("Negative TTL must be positive");
+        }
+        this.negativeTtlNanos = negativeTtl == null ? 0 : negativeTtl.toNanos();
+    }
+
+    /**
+     * Loads the value for a key that is not cached.
+     *
+     * <p>Called at most once at a time per key. Complete the future with {@code null} if the key does not
+     * exist.
+     *
+     * @param key the key
+     * @return a future with the value, or {@code null} if not found
+     */
+    protected abstract CompletableFuture<V> load(K key);
+
+    @Override
+    public CompletableFuture<V> get(K key) {
+        if (key == null) {
+            throw new NullPointerException("Key cannot be null");
+        }
+
+        V value = getValue(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        if (isRememberedMissing(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        CompletableFuture<V> existing = this.inFlightLoads.putIfAbsent(key, promise);
+        if (existing != null) {
+            // Copies keep one caller's cancel() from failing the load for everyone else
+            return existing.copy();
+        }
+
+        long loadStart = System.nanoTime();
+        CompletableFuture<V> load;
+        try {
+            load = load(key);
+        } catch (RuntimeException e) {
+            load = CompletableFuture.failedFuture(e);
+        }
+
+        load.whenComplete((loaded, throwable) -> {
+            StatsCounter counter = getStatsCounter();
+            if (counter != null) {
+                counter.recordLoad(throwable == null, System.nanoTime() - loadStart);
+            }
+
+            // Only publish if the key was not removed while loading, the result may be stale otherwise
+            if (throwable == null && this.inFlightLoads.get(key) == promise) {
+                if (loaded != null) {
+                    super.insert(key, loaded);
+                } else if (this.negativeTtlNanos > 0) {
+                    rememberMissing(key);
+                }
+            }
+            this.inFlightLoads.remove(key, promise);
+
+            if (throwable != null) {
+                promise.completeExceptionally(throwable);
+            } else {
+                promise.complete(loaded);
+            }
+        });
+        return promise.copy();
+    }
+
+    @Override
+    public void insert(K key, V value) {
+        this.missingKeys.remove(key);
+        super.insert(key, value);
+    }
+
+    @Override
+    public void remove(K key) {
+        this.inFlightLoads.remove(key);
+        this.missingKeys.remove(key);
+        super.remove(key);
+    }
+
+    @Override
+    public void cleanUp() {
+        super.cleanUp();
+        long now = System.nanoTime();
+        this.missingKeys.values().removeIf(deadline -> now - deadline >= 0);
+    }
+
+    private boolean isRememberedMissing(K key) {
+        Long deadline = this.missingKeys.get(key);
+        if (deadline == null) {
+            return false;
+        }
+        if (System.nanoTime() - deadline >= 0) {
+            this.missingKeys.remove(key, deadline);
+            return false;
+        }
+        return true;
+    }
+
+    private void rememberMissing(K key) {
+        if (this.missingKeys.size() >= getMaximumSize()) {
+            long now = System.nanoTime();
+            this.missingKeys.values().removeIf(deadline -> now - deadline >= 0);
+            if (this.missingKeys.size() >= getMaximumSize()) {
+                return;
+            }
+        }
+        this.missingKeys.put(key, System.nanoTime() + this.negativeTtlNanos);
+    }
+
+}
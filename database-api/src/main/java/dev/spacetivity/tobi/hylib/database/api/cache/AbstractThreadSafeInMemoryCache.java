@@ -1,5 +1,6 @@
 package dev.spacetivity.tobi.hylib.database.api.cache;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,6 +20,8 @@ import java.util.function.BiFunction;
 public abstract class AbstractThreadSafeInMemoryCache<K, V> implements Cache<K, V> {
 
     private final ConcurrentMap<K, V> dataMap = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private volatile StatsCounter statsCounter;
 
     @Override
     public void insert(K key, V value) {
@@ -37,7 +40,28 @@ public abstract class AbstractThreadSafeInMemoryCache<K, V> implements Cache<K,
 
     @Override
     public V getValue(K key) {
-        return this.dataMap.get(key);
+        V value = this.dataMap.get(key);
+        StatsCounter counter = this.statsCounter;
+        if (counter != null) {
+            counter.recordLookup(value != null);
+        }
+        return value;
+    }
+
+    /**
+     * Starts recording hit and miss statistics, available via {@link #getStats()}. Recording stays on
+     * until the cache is discarded; calling this again has no effect.
+     */
+    public synchronized void recordStats() {
+        if (this.statsCounter == null) {
+            this.statsCounter = new StatsCounter();
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        StatsCounter counter = this.statsCounter;
+        return counter != null ? counter.snapshot() : null;
     }
 
     /**
@@ -0,0 +1,375 @@
+package dev.spacetivity.tobi.hylib.database.api.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Thread-safe cache keyed by {@link UUID}, for player-keyed data.
+ *
+ * <p>Instead of a hash map with one node and one {@code UUID} object per entry, keys are stored as their
+ * two {@code long} halves in flat arrays of an open-addressing table (linear probing). This saves two
+ * objects per entry and a pointer hop per lookup; with thousands of online players, lookups stay in a
+ * few cache lines.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * public class PartyCache extends AbstractUuidKeyedCache<Party> {
+ * }
+ *
+ * partyCache.insert(player.getUuid(), party);
+ * Party party = partyCache.getValue(player.getUuid());
+ * }</pre>
+ *
+ * <h3>Concurrency</h3>
+ *
+ * <p>Writes take an exclusive lock. Reads are optimistic: they probe the table without locking and only
+ * retry under a read lock if a write happened concurrently, so reads never block each other. Values must
+ * not be null.
+ *
+ * @param <V> the value type
+ * @see Cache
+ * @see AbstractThreadSafeInMemoryCache
+ * @since 1.0
+ */
+public abstract class AbstractUuidKeyedCache<V> implements Cache<UUID, V> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private int size;
+
+    private volatile StatsCounter statsCounter;
+
+    /**
+     * Creates a cache sized for 64 entries; it grows as needed.
+     */
+    protected AbstractUuidKeyedCache() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a cache sized for the expected number of entries; it grows as needed.
+     *
+     * @param expectedSize the expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    protected AbstractUuidKeyedCache(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        this.table = new Table(tableSizeFor(expectedSize));
+    }
+
+    @Override
+    public void insert(UUID key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException("Key and value cannot be null");
+        }
+        long stamp = this.lock.writeLock();
+        try {
+            put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean update(UUID key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException("Key and value cannot be null");
+        }
+        long stamp = this.lock.writeLock();
+        try {
+            Table current = this.table;
+            int slot = current.find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+            if (slot < 0) {
+                return false;
+            }
+            current.values[slot] = value;
+            return true;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(UUID key) {
+        if (key == null) {
+            throw new NullPointerException("Key cannot be null");
+        }
+        long stamp = this.lock.writeLock();
+        try {
+            Table current = this.table;
+            int slot = current.find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+            if (slot >= 0) {
+                current.delete(slot);
+                this.size--;
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public V getValue(UUID key) {
+        if (key == null) {
+            throw new NullPointerException("Key cannot be null");
+        }
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+
+        V value = null;
+        boolean read = false;
+        long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                value = lookup(this.table, msb, lsb);
+                read = this.lock.validate(stamp);
+            } catch (RuntimeException e) {
+                // Torn read during a concurrent write; retried under the read lock below
+            }
+        }
+        if (!read) {
+            stamp = this.lock.readLock();
+            try {
+                value = lookup(this.table, msb, lsb);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        StatsCounter counter = this.statsCounter;
+        if (counter != null) {
+            counter.recordLookup(value != null);
+        }
+        return value;
+    }
+
+    /**
+     * Atomically computes a new value for the specified key. Returning {@code null} removes the entry.
+     *
+     * <p>The function runs under the write lock; keep it short and do not access this cache from it.
+     *
+     * @param key               the key
+     * @param remappingFunction computes the new value from the key and the current value (or null)
+     * @return the new value, or {@code null} if the entry was removed
+     * @throws NullPointerException if key or remappingFunction is null
+     */
+    public V compute(UUID key, BiFunction<? super UUID, ? super V, ? extends V> remappingFunction) {
+        if (key == null || remappingFunction == null) {
+            throw new NullPointerException("Key and remapping function cannot be null");
+        }
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+
+        long stamp = this.lock.writeLock();
+        try {
+            Table current = this.table;
+            int slot = current.find(msb, lsb);
+            V oldValue = slot < 0 ? null : current.value(slot);
+            V newValue = remappingFunction.apply(key, oldValue);
+            if (newValue == null) {
+                if (slot >= 0) {
+                    current.delete(slot);
+                    this.size--;
+                }
+            } else if (slot >= 0) {
+                current.values[slot] = newValue;
+            } else {
+                put(msb, lsb, newValue);
+            }
+            return newValue;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Passes every entry to the action while holding the read lock; the action must not modify this cache.
+     *
+     * @param action the action
+     */
+    public void forEach(BiConsumer<UUID, ? super V> action) {
+        long stamp = this.lock.readLock();
+        try {
+            Table current = this.table;
+            for (int i = 0; i < current.values.length; i++) {
+                if (current.values[i] != null) {
+                    action.accept(new UUID(current.msb[i], current.lsb[i]), current.value(i));
+                }
+            }
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns all values (snapshot).
+     *
+     * @return list of values, never null
+     */
+    public List<V> values() {
+        long stamp = this.lock.readLock();
+        try {
+            List<V> values = new ArrayList<>(this.size);
+            Table current = this.table;
+            for (int i = 0; i < current.values.length; i++) {
+                if (current.values[i] != null) {
+                    values.add(current.value(i));
+                }
+            }
+            return values;
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        long stamp = this.lock.readLock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Starts recording hit and miss statistics, available via {@link #getStats()}. Recording stays on
+     * until the cache is discarded; calling this again has no effect.
+     */
+    public synchronized void recordStats() {
+        if (this.statsCounter == null) {
+            this.statsCounter = new StatsCounter();
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        StatsCounter counter = this.statsCounter;
+        return counter != null ? counter.snapshot() : null;
+    }
+
+    private V lookup(Table current, long msb, long lsb) {
+        int slot = current.find(msb, lsb);
+        return slot < 0 ? null : current.value(slot);
+    }
+
+    // Write lock must be held
+    private void put(long msb, long lsb, V value) {
+        Table current = this.table;
+        int slot = current.find(msb, lsb);
+        if (slot >= 0) {
+            current.values[slot] = value;
+            return;
+        }
+
+        if (this.size + 1 > current.threshold) {
+            current = current.resize();
+            this.table = current;
+        }
+        current.place(msb, lsb, value);
+        this.size++;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int minimum = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        return Math.max(2, Integer.highestOneBit(minimum - 1) << 1);
+    }
+
+    // Finalizer of MurmurHash3; spreads the random bits of a UUID over the low bits used for indexing
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static final class Table {
+        private final long[] msb;
+        private final long[] lsb;
+        // A null value marks an empty slot
+        private final Object[] values;
+        private final int mask;
+        private final int threshold;
+
+        private Table(int capacity) {
+            this.msb = new long[capacity];
+            this.lsb = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <V> V value(int slot) {
+            return (V) this.values[slot];
+        }
+
+        private int find(long keyMsb, long keyLsb) {
+            int slot = hash(keyMsb, keyLsb) & this.mask;
+            // Bounded so a read racing with a write cannot spin; the caller validates or holds the lock
+            for (int probes = 0; probes <= this.mask; probes++) {
+                if (this.values[slot] == null) {
+                    return -1;
+                }
+                if (this.msb[slot] == keyMsb && this.lsb[slot] == keyLsb) {
+                    return slot;
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            return -1;
+        }
+
+        private void place(long keyMsb, long keyLsb, Object value) {
+            int slot = hash(keyMsb, keyLsb) & this.mask;
+            while (this.values[slot] != null) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.msb[slot] = keyMsb;
+            this.lsb[slot] = keyLsb;
+            this.values[slot] = value;
+        }
+
+        // Backward-shift deletion: moves later entries of the probe run up, so no tombstones are needed
+        private void delete(int slot) {
+            int gap = slot;
+            int next = (gap + 1) & this.mask;
+            while (this.values[next] != null) {
+                int home = hash(this.msb[next], this.lsb[next]) & this.mask;
+                // Move the entry into the gap unless its home slot lies cyclically in (gap, next]
+                if (((next - home) & this.mask) >= ((next - gap) & this.mask)) {
+                    this.msb[gap] = this.msb[next];
+                    this.lsb[gap] = this.lsb[next];
+                    this.values[gap] = this.values[next];
+                    gap = next;
+                }
+                next = (next + 1) & this.mask;
+            }
+            this.values[gap] = null;
+        }
+
+        private Table resize() {
+            Table resized = new Table(this.values.length << 1);
+            for (int i = 0; i < this.values.length; i++) {
+                if (this.values[i] != null) {
+                    resized.place(this.msb[i], this.lsb[i], this.values[i]);
+                }
+            }
+            return resized;
+        }
+    }
+
+}
@@ -1,13 +1,17 @@
 package dev.spacetivity.tobi.hylib.database.api.cache;
 
 /**
- * In-memory key-value cache. Extend {@link AbstractInMemoryCache} or {@link AbstractThreadSafeInMemoryCache}.
+ * In-memory key-value cache. Extend {@link AbstractInMemoryCache} or {@link AbstractThreadSafeInMemoryCache},
+ * or {@link AbstractBoundedCache} when the cache must not grow without limit. For caches keyed by player
+ * UUIDs, {@link AbstractUuidKeyedCache} stores keys without boxing.
  * Thread safety is implementation-dependent.
  *
  * @param <K> the key type
  * @param <V> the value type
  * @see AbstractInMemoryCache
  * @see AbstractThreadSafeInMemoryCache
+ * @see AbstractBoundedCache
+ * @see AbstractUuidKeyedCache
  * @see CacheLoader
  * @since 1.0
  */
@@ -57,4 +61,17 @@ public interface Cache<K, V> {
      */
     V getValue(K key);
 
+    /**
+     * Returns the statistics recorded by this cache.
+     *
+     * <p>Recording is opt-in: the base classes only count after {@code recordStats()} was called, and
+     * return {@code null} before that. Implementations that do not record statistics return {@code null}.
+     *
+     * @return the statistics, or {@code null} if this cache does not record them
+     * @see CacheLoader#getCacheStats()
+     */
+    default CacheStats getStats() {
+        return null;
+    }
+
 }
@@ -2,6 +2,8 @@ package dev.spacetivity.tobi.hylib.database.api.cache;
 
 import dev.spacetivity.tobi.hylib.database.api.registry.RegistryLoader;
 
+import java.util.Map;
+
 /**
  * Registry and loader for {@link Cache} instances. Extends {@link RegistryLoader}.
  *
@@ -22,4 +24,19 @@ public interface CacheLoader extends RegistryLoader<Cache<?, ?>> {
      */
     <T extends Cache<?, ?>> T getCache(Class<T> clazz);
 
+    /**
+     * Returns the statistics of every registered cache that records them.
+     *
+     * <h3>Example</h3>
+     *
+     * <pre>{@code
+     * cacheLoader.getCacheStats().forEach((cacheClass, stats) ->
+     *         logger.info(cacheClass.getSimpleName() + ": " + stats.hitCount() + " hits, " + stats.missCount() + " misses"));
+     * }</pre>
+     *
+     * @return statistics by the class the cache was registered under (snapshot), never null
+     * @see Cache#getStats()
+     */
+    Map<Class<?>, CacheStats> getCacheStats();
+
 }
@@ -0,0 +1,61 @@
+package dev.spacetivity.tobi.hylib.database.api.cache;
+
+import dev.spacetivity.tobi.hylib.database.api.connection.LatencyHistogram;
+
+/**
+ * Point-in-time statistics of a {@link Cache}.
+ *
+ * <p>Caches only record statistics after {@code recordStats()} was called on them; see
+ * {@link Cache#getStats()}. Counters start at zero when recording is enabled.
+ *
+ * <h3>Example</h3>
+ *
+ * <pre>{@code
+ * CacheStats stats = cacheLoader.getCache(HyPlayerCache.class).getStats();
+ * logger.info(String.format("hit rate %.1f%% (%d requests), %d evictions",
+ *         stats.hitRate() * 100, stats.requestCount(), stats.evictionCount()));
+ * }</pre>
+ *
+ * @param hitCount         lookups that found a value
+ * @param missCount        lookups that found no value
+ * @param evictionCount    entries evicted by size or expiration
+ * @param loadSuccessCount loads that completed normally, including loads that found nothing
+ * @param loadFailureCount loads that completed exceptionally
+ * @param loadLatency      time spent per load; empty for caches that do not load
+ * @see Cache#getStats()
+ * @see CacheLoader#getCacheStats()
+ * @since 1.0
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount, long loadSuccessCount,
+                         long loadFailureCount, LatencyHistogram.Snapshot loadLatency) {
+
+    /**
+     * Returns the number of lookups.
+     *
+     * @return hits plus misses
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the share of lookups that found a value.
+     *
+     * @return the hit rate between 0 and 1, or 1 if there were no lookups
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Returns the share of lookups that found no value.
+     *
+     * @return the miss rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double missRate() {
+        long requests = requestCount();
+        return requests == 0 ? 0.0 : (double) missCount / requests;
+    }
+
+}
@@ -0,0 +1,21 @@
+package dev.spacetivity.tobi.hylib.database.api.cache;
+
+/**
+ * Reason why a {@link AbstractBoundedCache} evicted an entry.
+ *
+ * @see EvictionListener
+ * @since 1.0
+ */
+public enum EvictionCause {
+
+    /**
+     * The cache exceeded its maximum size and the entry was chosen by the eviction policy.
+     */
+    SIZE,
+
+    /**
+     * The entry outlived its expire-after-write or expire-after-access duration.
+     */
+    EXPIRED
+
+}
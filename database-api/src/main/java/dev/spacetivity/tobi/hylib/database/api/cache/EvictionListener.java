@@ -0,0 +1,32 @@
+package dev.spacetivity.tobi.hylib.database.api.cache;
+
+/**
+ * Receives entries evicted from an {@link AbstractBoundedCache}.
+ *
+ * <p>Listeners are called after the entry was removed, outside the cache's internal lock, on the thread
+ * that triggered the eviction. Explicit {@link Cache#remove(Object)} calls are not reported.
+ *
+ * <h3>Example</h3>
+ *
+ * <pre>{@code
+ * cache.addEvictionListener((uuid, player, cause) ->
+ *     logger.fine("Evicted " + uuid + " (" + cause + ")"));
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @see AbstractBoundedCache#addEvictionListener(EvictionListener)
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+
+    /**
+     * Called for every evicted entry.
+     *
+     * @param key   the key of the evicted entry
+     * @param value the value of the evicted entry
+     * @param cause why the entry was evicted
+     */
+    void onEviction(K key, V value, EvictionCause cause);
+}
@@ -0,0 +1,31 @@
+package dev.spacetivity.tobi.hylib.database.api.cache;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Cache} that loads missing values itself.
+ *
+ * <p>{@link #get(Object)} returns cached values directly and loads missing ones, typically from a
+ * repository. Concurrent calls for the same missing key share a single load instead of each issuing
+ * its own query. Extend {@link AbstractLoadingCache} to implement.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @see AbstractLoadingCache
+ * @since 1.0
+ */
+public interface LoadingCache<K, V> extends Cache<K, V> {
+
+    /**
+     * Returns the value for the given key, loading it if it is not cached.
+     *
+     * <p>The returned future completes with {@code null} if the key does not exist in the backing store,
+     * and exceptionally if the load fails. Failed loads are not cached.
+     *
+     * @param key the key
+     * @return a future with the value, or {@code null} if not found
+     * @throws NullPointerException if key is null
+     */
+    CompletableFuture<V> get(K key);
+
+}
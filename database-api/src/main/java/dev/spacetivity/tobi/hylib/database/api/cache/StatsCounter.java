@@ -0,0 +1,52 @@
+package dev.spacetivity.tobi.hylib.database.api.cache;
+
+import dev.spacetivity.tobi.hylib.database.api.connection.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters behind {@link CacheStats}. {@link LongAdder}s keep recording cheap when many threads read
+ * the same cache.
+ */
+final class StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+
+    void recordLookup(boolean hit) {
+        if (hit) {
+            this.hitCount.increment();
+        } else {
+            this.missCount.increment();
+        }
+    }
+
+    void recordEvictions(int count) {
+        this.evictionCount.add(count);
+    }
+
+    void recordLoad(boolean success, long nanos) {
+        if (success) {
+            this.loadSuccessCount.increment();
+        } else {
+            this.loadFailureCount.increment();
+        }
+        this.loadLatency.record(nanos);
+    }
+
+    CacheStats snapshot() {
+        return new CacheStats(
+                this.hitCount.sum(),
+                this.missCount.sum(),
+                this.evictionCount.sum(),
+                this.loadSuccessCount.sum(),
+                this.loadFailureCount.sum(),
+                this.loadLatency.snapshot()
+        );
+    }
+
+}
@@ -6,9 +6,14 @@ import dev.spacetivity.tobi.hylib.database.api.connection.credentials.DatabaseCr
  * Handler for database connectors by type. Connectors abstract the DB client (e.g. HikariCP for MariaDB).
  * Register via {@link #registerConnector(DatabaseConnector, DatabaseCredentials)} or when establishing a connection.
  *
+ * <p>Each type has one primary connector, which receives all writes. Read replicas can be added via
+ * {@link #registerReplica(DatabaseConnector, DatabaseCredentials)}; {@link #getReadConnector(DatabaseType)}
+ * then spreads reads across them.
+ *
  * @see DatabaseConnector
  * @see DatabaseType
  * @see DatabaseCredentials
+ * @see ReadPreference
  * @see dev.spacetivity.tobi.hylib.database.api.DatabaseApi#getDatabaseConnectionHandler()
  * @since 1.0
  */
@@ -51,4 +56,57 @@ public interface DatabaseConnectionHandler {
      * @throws RuntimeException     if the connection cannot be established
      */
     <T, C extends DatabaseCredentials> DatabaseConnector<T, C> registerConnector(DatabaseConnector<T, C> connector, DatabaseCredentials credentials);
+
+    /**
+     * Returns the type of the primary database, i.e. of the first registered connector.
+     *
+     * <p>Repositories use this type to look up their connector, so the same repository code runs
+     * against MariaDB or the embedded {@link DatabaseType#H2} database.
+     *
+     * @return the primary database type
+     * @throws IllegalStateException if no connector is registered
+     */
+    DatabaseType getPrimaryType();
+
+    /**
+     * Registers a read replica for the connector's database type and establishes its connection.
+     *
+     * @param <T>         the client type
+     * @param <C>         the type of credentials
+     * @param connector   the replica connector to register
+     * @param credentials the credentials of the replica
+     * @return the registered connector (same instance as the parameter)
+     * @throws NullPointerException if connector or credentials is null
+     * @throws RuntimeException     if the connection cannot be established
+     */
+    <T, C extends DatabaseCredentials> DatabaseConnector<T, C> registerReplica(DatabaseConnector<T, C> connector, DatabaseCredentials credentials);
+
+    /**
+     * Returns the connector to use for reads of the given type.
+     *
+     * <p>If replicas are registered, one is chosen by the handler's {@link ReplicaSelectionStrategy};
+     * otherwise the primary connector is returned.
+     *
+     * @param <T>  the client type
+     * @param <C>  the credentials type
+     * @param type the database type
+     * @return a replica connector, or the primary connector if there are no replicas
+     * @throws NullPointerException if type is null
+     */
+    <T, C extends DatabaseCredentials> DatabaseConnector<T, C> getReadConnector(DatabaseType type);
+
+    /**
+     * Returns the connector for the given read preference.
+     *
+     * @param <T>        the client type
+     * @param <C>        the credentials type
+     * @param type       the database type
+     * @param preference {@link ReadPreference#PRIMARY} for the primary, {@link ReadPreference#REPLICA}
+     *                   for {@link #getReadConnector(DatabaseType)}
+     * @return the connector
+     * @throws NullPointerException if type or preference is null
+     */
+    default <T, C extends DatabaseCredentials> DatabaseConnector<T, C> getReadConnector(DatabaseType type, ReadPreference preference) {
+        return preference == ReadPreference.PRIMARY ? getConnectorNullsafe(type) : getReadConnector(type);
+    }
 }
@@ -57,4 +57,14 @@ public abstract class DatabaseConnector<T, C extends DatabaseCredentials> {
         return this.client;
     }
 
+    /**
+     * Returns the current statistics of this connector's connection pool.
+     *
+     * @return the pool metrics, or null if this connector has no pool or is not connected
+     * @see PoolMetrics
+     */
+    public PoolMetrics getPoolMetrics() {
+        return null;
+    }
+
 }
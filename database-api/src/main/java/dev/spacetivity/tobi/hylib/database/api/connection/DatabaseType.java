@@ -25,6 +25,14 @@ public enum DatabaseType {
      * <p>MariaDB is a community-developed fork of MySQL. Connectors for MariaDB
      * typically use the MariaDB JDBC driver and HikariCP connection pool.
      */
-    MARIADB
+    MARIADB,
+
+    /**
+     * Embedded H2 database type.
+     *
+     * <p>H2 runs inside the server process in MariaDB compatibility mode and needs no external
+     * database server. Intended for local runs, tests and benchmarks.
+     */
+    H2
 
 }
@@ -0,0 +1,105 @@
+package dev.spacetivity.tobi.hylib.database.api.connection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two microsecond buckets.
+ *
+ * <p>Bucket {@code i} counts values below {@code 2^i} microseconds, so recording is a single
+ * {@link LongAdder} increment and the histogram has a fixed size. Percentiles are reported as the upper
+ * bound of the bucket they fall into (capped at the maximum), i.e. with at most a factor of two error.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * long start = System.nanoTime();
+ * // ... operation ...
+ * histogram.record(System.nanoTime() - start);
+ *
+ * LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+ * long p99Micros = snapshot.p99Micros();
+ * }</pre>
+ *
+ * @see PoolMetrics
+ * @since 1.0
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets[bucket].increment();
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    /**
+     * Returns a point-in-time view of the recorded values. Concurrent recordings may be partially
+     * included.
+     *
+     * @return the snapshot, never null
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        long mean = total == 0 ? 0 : totalMicros.sum() / total;
+        long max = maxMicros.get();
+        return new Snapshot(total, mean, Math.min(max, percentile(counts, total, 0.50)),
+                Math.min(max, percentile(counts, total, 0.95)), Math.min(max, percentile(counts, total, 0.99)), max);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return 1L << i;
+            }
+        }
+        return 1L << (counts.length - 1);
+    }
+
+    /**
+     * Summary of a {@link LatencyHistogram}. All latencies are in microseconds; percentiles are bucket
+     * upper bounds.
+     *
+     * @param count      number of recorded values
+     * @param meanMicros mean latency
+     * @param p50Micros  median latency
+     * @param p95Micros  95th percentile latency
+     * @param p99Micros  99th percentile latency
+     * @param maxMicros  highest recorded latency
+     */
+    public record Snapshot(long count, long meanMicros, long p50Micros, long p95Micros, long p99Micros, long maxMicros) {
+    }
+}
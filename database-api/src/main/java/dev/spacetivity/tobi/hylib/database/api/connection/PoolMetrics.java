@@ -0,0 +1,36 @@
+package dev.spacetivity.tobi.hylib.database.api.connection;
+
+/**
+ * Point-in-time statistics of a connection pool.
+ *
+ * <p>{@code pendingThreads > 0} means callers are queuing for a connection; together with a growing
+ * {@code acquireLatency} this indicates the pool is too small for the current load.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * PoolMetrics metrics = DatabaseProvider.getApi().getPoolMetrics();
+ * if (metrics != null && metrics.pendingThreads() > 0) {
+ *     logger.warn("Waiting for connections, p99 acquire: " + metrics.acquireLatency().p99Micros() + "us");
+ * }
+ * }</pre>
+ *
+ * @param activeConnections  connections currently in use
+ * @param idleConnections    open connections waiting in the pool
+ * @param totalConnections   all open connections
+ * @param pendingThreads     threads waiting for a connection
+ * @param maximumPoolSize    the configured maximum pool size
+ * @param connectionTimeouts number of acquisitions that timed out since the pool was created
+ * @param acquireLatency     time spent waiting for a connection
+ * @see DatabaseConnector#getPoolMetrics()
+ * @see PoolSettings
+ * @since 1.0
+ */
+public record PoolMetrics(int activeConnections,
+                          int idleConnections,
+                          int totalConnections,
+                          int pendingThreads,
+                          int maximumPoolSize,
+                          long connectionTimeouts,
+                          LatencyHistogram.Snapshot acquireLatency) {
+}
@@ -0,0 +1,75 @@
+package dev.spacetivity.tobi.hylib.database.api.connection;
+
+/**
+ * Connection pool and driver settings for a pooled connector.
+ *
+ * <p>The pool size limits how many statements can run at the same time. With virtual threads the
+ * number of concurrent callers is effectively unbounded, so the pool size is usually the real
+ * concurrency limit and should be sized to what the database server can handle.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * PoolSettings settings = new PoolSettings(
+ *     20,      // maximumPoolSize
+ *     5,       // minimumIdle
+ *     250,     // preparedStatementCacheSize
+ *     true,    // useServerPrepStmts
+ *     true,    // rewriteBatchedStatements
+ *     30000,   // socketTimeoutMillis
+ *     60000    // leakDetectionThresholdMillis
+ * );
+ *
+ * api.establishConnection(credentials, List.of(), ReplicaSelectionStrategy.ROUND_ROBIN, settings);
+ * }</pre>
+ *
+ * @param maximumPoolSize              maximum number of connections in the pool
+ * @param minimumIdle                  minimum number of idle connections kept open
+ * @param preparedStatementCacheSize   number of prepared statements cached per connection; 0 disables the cache
+ * @param useServerPrepStmts           whether statements are prepared on the server instead of the client
+ * @param rewriteBatchedStatements     whether JDBC batches are rewritten into multi-row statements
+ * @param socketTimeoutMillis          socket read timeout in milliseconds; 0 means no timeout
+ * @param leakDetectionThresholdMillis time a connection may be held before a leak warning is logged;
+ *                                     0 disables leak detection
+ * @see DatabaseConnector
+ * @see PoolMetrics
+ * @since 1.0
+ */
+public record PoolSettings(int maximumPoolSize,
+                           int minimumIdle,
+                           int preparedStatementCacheSize,
+                           boolean useServerPrepStmts,
+                           boolean rewriteBatchedStatements,
+                           int socketTimeoutMillis,
+                           long leakDetectionThresholdMillis) {
+
+    /**
+     * Validates the PoolSettings during construction.
+     *
+     * @throws IllegalArgumentException if a size is out of range or a timeout is negative
+     */
+    public PoolSettings {
+        if (maximumPoolSize < 1) {
+            throw new IllegalArgumentException("Maximum pool size must be at least 1");
+        }
+        if (minimumIdle < 0 || minimumIdle > maximumPoolSize) {
+            throw new IllegalArgumentException("Minimum idle must be between 0 and the maximum pool size");
+        }
+        if (preparedStatementCacheSize < 0) {
+            throw new IllegalArgumentException("Prepared statement cache size cannot be negative");
+        }
+        if (socketTimeoutMillis < 0 || leakDetectionThresholdMillis < 0) {
+            throw new IllegalArgumentException("Timeouts cannot be negative");
+        }
+    }
+
+    /**
+     * Returns the default settings: 10 connections, 2 idle, 250 cached statements, client-side
+     * prepared statements, batch rewriting, no socket timeout and no leak detection.
+     *
+     * @return the default settings
+     */
+    public static PoolSettings defaults() {
+        return new PoolSettings(10, 2, 250, false, true, 0, 0);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.spacetivity.tobi.hylib.database.api.connection;
+
+/**
+ * Selects which server a read query is sent to.
+ *
+ * <p>Reads go to a read replica by default. Replicas apply the primary's changes asynchronously, so a
+ * read issued right after a write may not see it yet. Use {@link #PRIMARY} where a read must observe
+ * the caller's own preceding writes (read-your-writes).
+ *
+ * <h3>Example</h3>
+ *
+ * <pre>{@code
+ * repository.save(user);
+ * User fresh = repository.getSync(ID_COL, user.getId(), ReadPreference.PRIMARY);
+ * }</pre>
+ *
+ * @see DatabaseConnectionHandler#getReadConnector(DatabaseType)
+ * @since 1.0
+ */
+public enum ReadPreference {
+
+    /**
+     * Read from the primary; always sees the latest committed writes.
+     */
+    PRIMARY,
+
+    /**
+     * Read from a replica chosen by the handler's {@link ReplicaSelectionStrategy}, or from the primary
+     * if no replica is registered.
+     */
+    REPLICA
+
+}
@@ -0,0 +1,23 @@
+package dev.spacetivity.tobi.hylib.database.api.connection;
+
+/**
+ * Strategy used by {@link DatabaseConnectionHandler#getReadConnector(DatabaseType)} to pick one of
+ * several read replicas.
+ *
+ * @see DatabaseConnectionHandler#registerReplica(DatabaseConnector, dev.spacetivity.tobi.hylib.database.api.connection.credentials.DatabaseCredentials)
+ * @since 1.0
+ */
+public enum ReplicaSelectionStrategy {
+
+    /**
+     * Cycles through the replicas in registration order.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Picks the replica whose connection pool currently has the fewest active connections.
+     * Falls back to {@link #ROUND_ROBIN} for connectors that do not expose pool statistics.
+     */
+    LEAST_ACTIVE_CONNECTIONS
+
+}
@@ -0,0 +1,51 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl;
+
+import dev.spacetivity.tobi.hylib.database.api.connection.credentials.DatabaseCredentials;
+
+/**
+ * Credentials for an embedded H2 database.
+ *
+ * <p>The path selects where the database lives: a file path such as {@code ./data/hylib} stores it on
+ * disk, {@code mem:hylib} keeps it in memory for the lifetime of the process.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * H2Credentials credentials = new H2Credentials(
+ *     "./data/hylib",  // path (or "mem:hylib")
+ *     "sa",            // username
+ *     ""               // password
+ * );
+ *
+ * connector.establishConnection(credentials);
+ * }</pre>
+ *
+ * @param path     the database path, or {@code mem:<name>} for an in-memory database
+ * @param username the database username
+ * @param password the database password
+ * @see DatabaseCredentials
+ * @see dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.H2Connector
+ * @since 1.0
+ */
+public record H2Credentials(String path, String username, String password) implements DatabaseCredentials {
+
+    /**
+     * Embedded databases have no server; always returns {@code "localhost"}.
+     *
+     * @return {@code "localhost"}
+     */
+    @Override
+    public String hostname() {
+        return "localhost";
+    }
+
+    /**
+     * Embedded databases have no server; always returns {@code 0}.
+     *
+     * @return {@code 0}
+     */
+    @Override
+    public int port() {
+        return 0;
+    }
+}
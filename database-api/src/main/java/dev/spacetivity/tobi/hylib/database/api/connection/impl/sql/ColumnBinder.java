@@ -0,0 +1,36 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds a parameter of one column type to a {@link PreparedStatement}.
+ *
+ * <p>A binder is chosen once from the column's {@link SQLDataType} (see {@link ParameterBinder#forType(SQLDataType)})
+ * and then calls the matching setter ({@code setLong}, {@code setBytes}, {@code setString}, ...) directly,
+ * instead of dispatching on the runtime type of every value.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * ColumnBinder idBinder = ParameterBinder.forType(SQLDataType.BIGINT);
+ * idBinder.bind(statement, 1, 42L);
+ * }</pre>
+ *
+ * @see ParameterBinder
+ * @see SQLDataType
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ColumnBinder {
+
+    /**
+     * Binds a value to the statement.
+     *
+     * @param statement the statement to bind to
+     * @param index     the 1-based parameter index
+     * @param value     the value to bind (may be null)
+     * @throws SQLException if binding fails
+     */
+    void bind(PreparedStatement statement, int index, Object value) throws SQLException;
+}
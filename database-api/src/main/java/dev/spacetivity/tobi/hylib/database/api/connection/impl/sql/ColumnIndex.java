@@ -0,0 +1,72 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolved positions of the columns of a {@link ResultSet}.
+ *
+ * <p>Reading a column by name (e.g. {@code rs.getString("name")}) makes the driver search the
+ * result columns case-insensitively on every call, for every row. A {@code ColumnIndex} resolves
+ * the names once per result set from its {@link ResultSetMetaData}, so rows can then be read by
+ * index. Look up the positions in {@link IndexedRowMapper#bind(ColumnIndex)}, not per row.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * RowMapper<User> mapper = RowMapper.indexed(columns -> {
+ *     int id = columns.indexOf(ID_COL);
+ *     int name = columns.indexOf(NAME_COL);
+ *     return rs -> new User(rs.getInt(id), rs.getString(name));
+ * });
+ * }</pre>
+ *
+ * @see IndexedRowMapper
+ * @see RowMapper#indexed(IndexedRowMapper)
+ * @since 1.0
+ */
+public final class ColumnIndex {
+
+    private final Map<String, Integer> labelIndices;
+
+    private ColumnIndex(Map<String, Integer> labelIndices) {
+        this.labelIndices = labelIndices;
+    }
+
+    /**
+     * Resolves the column positions of a result set.
+     *
+     * @param resultSet the result set
+     * @return the column index, never null
+     * @throws SQLException if the metadata cannot be read
+     */
+    public static ColumnIndex resolve(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        Map<String, Integer> labelIndices = new HashMap<>(columnCount * 2);
+        for (int i = columnCount; i >= 1; i--) { // first occurrence wins, like ResultSet#findColumn
+            labelIndices.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+        return new ColumnIndex(labelIndices);
+    }
+
+    /**
+     * Returns the 1-based position of the column in the result set.
+     *
+     * @param column the column
+     * @return the 1-based column index, for use with the {@code ResultSet} getters
+     * @throws IllegalArgumentException if the column is not part of the result set
+     */
+    public int indexOf(Column column) {
+        Integer index = this.labelIndices.get(column.name().toLowerCase(Locale.ROOT));
+        if (index == null) {
+            throw new IllegalArgumentException("Column not found in result set: " + column.name());
+        }
+        return index;
+    }
+
+}
@@ -0,0 +1,46 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseType;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolSettings;
+import dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl.H2Credentials;
+
+/**
+ * Connector for an embedded H2 database running in MariaDB compatibility mode.
+ *
+ * <p>Needs no database server, which makes it suitable for local runs, CI and benchmarks. The
+ * compatibility mode accepts the SQL generated by {@link TableDefinition} and
+ * {@link dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.SqlBuilder}, including
+ * backtick identifiers, {@code AUTO_INCREMENT} and {@code ON DUPLICATE KEY UPDATE}, so repositories work
+ * unchanged. Identifiers are stored in lower case, as on MariaDB.
+ *
+ * @see H2Credentials
+ * @see DatabaseType#H2
+ * @since 1.0
+ */
+public class H2Connector extends HikariDatabaseConnector<H2Credentials> {
+
+    public H2Connector() {
+        this(PoolSettings.defaults());
+    }
+
+    public H2Connector(PoolSettings poolSettings) {
+        super(DatabaseType.H2, poolSettings);
+    }
+
+    @Override
+    public void establishConnection(H2Credentials credentials) {
+        try {
+            Class.forName("org.h2.Driver");
+        } catch (ClassNotFoundException e) {
+            e.printStackTrace();
+        }
+
+        HikariDataSource dataSource = createDataSource();
+        // DB_CLOSE_DELAY=-1 keeps in-memory databases alive while the pool has no open connection
+        dataSource.setJdbcUrl("jdbc:h2:" + credentials.path() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername(credentials.username());
+        dataSource.setPassword(credentials.password());
+        setClient(dataSource);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnector;
+import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseType;
+import dev.spacetivity.tobi.hylib.database.api.connection.LatencyHistogram;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolMetrics;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolSettings;
+import dev.spacetivity.tobi.hylib.database.api.connection.credentials.DatabaseCredentials;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base for connectors backed by a HikariCP pool. Applies the {@link PoolSettings} and records the pool
+ * metrics; subclasses only add the JDBC URL, credentials and driver-specific properties.
+ *
+ * @param <C> the credentials type
+ * @see MariaDbConnector
+ * @see H2Connector
+ * @since 1.0
+ */
+public abstract class HikariDatabaseConnector<C extends DatabaseCredentials> extends DatabaseConnector<HikariDataSource, C> {
+
+    @Getter
+    private final PoolSettings poolSettings;
+    private final LatencyHistogram acquireLatency;
+    private final LongAdder connectionTimeouts;
+
+    protected HikariDatabaseConnector(DatabaseType type, PoolSettings poolSettings) {
+        super(type);
+        this.poolSettings = poolSettings;
+        this.acquireLatency = new LatencyHistogram();
+        this.connectionTimeouts = new LongAdder();
+    }
+
+    /**
+     * Creates a data source with the pool settings and metrics tracking applied.
+     *
+     * @return the data source; the caller sets the URL and credentials
+     */
+    protected HikariDataSource createDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaxLifetime(1800000);
+        dataSource.setMaximumPoolSize(poolSettings.maximumPoolSize());
+        dataSource.setMinimumIdle(poolSettings.minimumIdle());
+        dataSource.setConnectionTimeout(10000);
+        dataSource.setIdleTimeout(600000);
+        dataSource.setLeakDetectionThreshold(poolSettings.leakDetectionThresholdMillis());
+        dataSource.setMetricsTrackerFactory((poolName, poolStats) -> new AcquireTracker());
+        return dataSource;
+    }
+
+    @Override
+    public PoolMetrics getPoolMetrics() {
+        HikariDataSource dataSource = getClient();
+        if (dataSource == null) {
+            return null;
+        }
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return null;
+        }
+        return new PoolMetrics(
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection(),
+                dataSource.getMaximumPoolSize(),
+                connectionTimeouts.sum(),
+                acquireLatency.snapshot()
+        );
+    }
+
+    private class AcquireTracker implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquireLatency.record(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            connectionTimeouts.increment();
+        }
+    }
+}
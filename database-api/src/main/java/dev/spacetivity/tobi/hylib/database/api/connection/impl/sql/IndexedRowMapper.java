@@ -0,0 +1,41 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql;
+
+import java.sql.SQLException;
+
+/**
+ * Row mapper that reads columns by their resolved position instead of by name.
+ *
+ * <p>{@link #bind(ColumnIndex)} is called once per result set: it looks up the positions of the
+ * columns it needs and returns a {@link RowMapper} that reads every row with plain
+ * {@code getXxx(int)} calls. Use {@link RowMapper#indexed(IndexedRowMapper)} to turn it into a
+ * {@link RowMapper}.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * IndexedRowMapper<User> mapper = columns -> {
+ *     int id = columns.indexOf(ID_COL);
+ *     int name = columns.indexOf(NAME_COL);
+ *     return rs -> new User(rs.getInt(id), rs.getString(name));
+ * };
+ * List<User> users = query(query, RowMapper.indexed(mapper));
+ * }</pre>
+ *
+ * @param <T> the type of the domain object to map to
+ * @see ColumnIndex
+ * @see RowMapper
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface IndexedRowMapper<T> {
+
+    /**
+     * Resolves the column positions of a result set and returns the mapper for its rows.
+     *
+     * @param columns the resolved column positions of the result set
+     * @return the mapper for the rows of this result set, never null
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if a required column is not part of the result set
+     */
+    RowMapper<T> bind(ColumnIndex columns) throws SQLException;
+}
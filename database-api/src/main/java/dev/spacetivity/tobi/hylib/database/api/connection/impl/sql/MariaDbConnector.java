@@ -1,14 +1,18 @@
 package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql;
 
 import com.zaxxer.hikari.HikariDataSource;
-import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnector;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseType;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolSettings;
 import dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl.MariaDbCredentials;
 
-public class MariaDbConnector extends DatabaseConnector<HikariDataSource, MariaDbCredentials> {
+public class MariaDbConnector extends HikariDatabaseConnector<MariaDbCredentials> {
 
     public MariaDbConnector() {
-        super(DatabaseType.MARIADB);
+        this(PoolSettings.defaults());
+    }
+
+    public MariaDbConnector(PoolSettings poolSettings) {
+        super(DatabaseType.MARIADB, poolSettings);
     }
 
     @Override
@@ -19,14 +23,14 @@ public class MariaDbConnector extends DatabaseConnector<HikariDataSource, MariaD
             e.printStackTrace();
         }
 
-        HikariDataSource dataSource = new HikariDataSource();
-        dataSource.setMaxLifetime(1800000);
-        dataSource.setMinimumIdle(2);
-        dataSource.setConnectionTimeout(10000);
-        dataSource.setIdleTimeout(600000);
-        dataSource.addDataSourceProperty("cachePrepStmts", "true");
-        dataSource.addDataSourceProperty("prepStmtCacheSize", "250");
+        PoolSettings poolSettings = getPoolSettings();
+        HikariDataSource dataSource = createDataSource();
+        dataSource.addDataSourceProperty("cachePrepStmts", String.valueOf(poolSettings.preparedStatementCacheSize() > 0));
+        dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(poolSettings.preparedStatementCacheSize()));
         dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        dataSource.addDataSourceProperty("useServerPrepStmts", String.valueOf(poolSettings.useServerPrepStmts()));
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", String.valueOf(poolSettings.rewriteBatchedStatements()));
+        dataSource.addDataSourceProperty("socketTimeout", String.valueOf(poolSettings.socketTimeoutMillis()));
         dataSource.setJdbcUrl("jdbc:mariadb://" + credentials.hostname() + ":" + credentials.port() + "/" + credentials.database());
         dataSource.setUsername(credentials.username());
         dataSource.setPassword(credentials.password());
@@ -0,0 +1,254 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binds query parameters to a {@link PreparedStatement} using the type-specific setters.
+ *
+ * <p>{@link PreparedStatement#setObject(int, Object)} makes the driver inspect the value type at
+ * runtime for every parameter. When the column of a parameter is known, its {@link ColumnBinder} is
+ * resolved once from the column's {@link SQLDataType} (see {@link #forType(SQLDataType)}) and calls
+ * the matching setter directly. Parameters without a known column type (e.g. columns of other tables)
+ * are bound by their Java type, falling back to {@code setObject}.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * ColumnBinder[] binders = tableDefinition.resolveBinders(query.paramColumns());
+ * try (PreparedStatement statement = connection.prepareStatement(query.sql())) {
+ *     ParameterBinder.bind(statement, query.params(), binders);
+ *     ResultSet resultSet = statement.executeQuery();
+ * }
+ * }</pre>
+ *
+ * <h3>UUIDs</h3>
+ *
+ * <p>How a {@link UUID} is bound depends on the column: {@code BINARY(16)} via
+ * {@link UuidUtils#uuidToBytes(UUID)} for {@link SQLDataType#UUID} columns, its string form for text
+ * columns. Without a known column type it is passed to {@code setObject} unchanged.
+ *
+ * @see ColumnBinder
+ * @see dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.BuiltQuery
+ * @since 1.0
+ */
+public final class ParameterBinder {
+
+    private static final Map<SQLDataType, ColumnBinder> BINDERS = new EnumMap<>(SQLDataType.class);
+
+    static {
+        ColumnBinder text = (statement, index, value) -> {
+            switch (value) {
+                case null -> statement.setNull(index, Types.VARCHAR);
+                case String string -> statement.setString(index, string);
+                case UUID uuid -> statement.setString(index, uuid.toString());
+                default -> statement.setObject(index, value);
+            }
+        };
+        BINDERS.put(SQLDataType.VARCHAR, text);
+        BINDERS.put(SQLDataType.CHAR, text);
+        BINDERS.put(SQLDataType.TEXT, text);
+
+        BINDERS.put(SQLDataType.UUID, (statement, index, value) -> {
+            switch (value) {
+                case null -> statement.setNull(index, Types.BINARY);
+                case byte[] bytes -> statement.setBytes(index, bytes);
+                case UUID uuid -> statement.setBytes(index, UuidUtils.uuidToBytes(uuid));
+                default -> statement.setObject(index, value);
+            }
+        });
+
+        // Integer columns never narrow a value: out of range values are bound as BIGINT, so they match no row
+        // instead of a wrapped one, and non-integral numbers are left to the driver
+        BINDERS.put(SQLDataType.INTEGER, (statement, index, value) -> {
+            if (isIntegral(value)) {
+                long number = ((Number) value).longValue();
+                if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+                    statement.setInt(index, (int) number);
+                } else {
+                    statement.setLong(index, number);
+                }
+            } else {
+                bindOther(statement, index, value, Types.INTEGER);
+            }
+        });
+        BINDERS.put(SQLDataType.BIGINT, (statement, index, value) -> {
+            if (isIntegral(value)) {
+                statement.setLong(index, ((Number) value).longValue());
+            } else {
+                bindOther(statement, index, value, Types.BIGINT);
+            }
+        });
+        BINDERS.put(SQLDataType.SMALLINT, (statement, index, value) -> {
+            if (isIntegral(value)) {
+                long number = ((Number) value).longValue();
+                if (number >= Short.MIN_VALUE && number <= Short.MAX_VALUE) {
+                    statement.setShort(index, (short) number);
+                } else {
+                    statement.setLong(index, number);
+                }
+            } else {
+                bindOther(statement, index, value, Types.SMALLINT);
+            }
+        });
+
+        ColumnBinder decimal = (statement, index, value) -> {
+            if (value instanceof BigDecimal number) {
+                statement.setBigDecimal(index, number);
+            } else {
+                bindOther(statement, index, value, Types.DECIMAL);
+            }
+        };
+        BINDERS.put(SQLDataType.DECIMAL, decimal);
+        BINDERS.put(SQLDataType.NUMERIC, decimal);
+
+        // FLOAT may be 8 bytes (H2, often DOUBLE on MariaDB), so only a Float is bound with setFloat
+        ColumnBinder real = (statement, index, value) -> {
+            switch (value) {
+                case Float number -> statement.setFloat(index, number);
+                case Double number -> statement.setDouble(index, number);
+                case BigDecimal number -> statement.setBigDecimal(index, number);
+                case null, default -> bindOther(statement, index, value, Types.REAL);
+            }
+        };
+        BINDERS.put(SQLDataType.REAL, real);
+        BINDERS.put(SQLDataType.FLOAT, real);
+        BINDERS.put(SQLDataType.DOUBLE, (statement, index, value) -> {
+            switch (value) {
+                case Double number -> statement.setDouble(index, number);
+                case Float number -> statement.setDouble(index, number);
+                case BigDecimal number -> statement.setBigDecimal(index, number);
+                case null, default -> bindOther(statement, index, value, Types.DOUBLE);
+            }
+        });
+
+        BINDERS.put(SQLDataType.DATE, (statement, index, value) -> {
+            if (value instanceof Date date) {
+                statement.setDate(index, date);
+            } else {
+                bindOther(statement, index, value, Types.DATE);
+            }
+        });
+        BINDERS.put(SQLDataType.TIME, (statement, index, value) -> {
+            if (value instanceof Time time) {
+                statement.setTime(index, time);
+            } else {
+                bindOther(statement, index, value, Types.TIME);
+            }
+        });
+        BINDERS.put(SQLDataType.TIMESTAMP, (statement, index, value) -> {
+            if (value instanceof Timestamp timestamp) {
+                statement.setTimestamp(index, timestamp);
+            } else {
+                bindOther(statement, index, value, Types.TIMESTAMP);
+            }
+        });
+        BINDERS.put(SQLDataType.BOOLEAN, (statement, index, value) -> {
+            if (value instanceof Boolean bool) {
+                statement.setBoolean(index, bool);
+            } else {
+                bindOther(statement, index, value, Types.BOOLEAN);
+            }
+        });
+    }
+
+    private ParameterBinder() {
+    }
+
+    /**
+     * Returns the binder for parameters of a column type.
+     *
+     * @param dataType the column's data type
+     * @return the binder, or null if {@code dataType} is a constraint such as {@link SQLDataType#PRIMARY_KEY}
+     */
+    public static ColumnBinder forType(SQLDataType dataType) {
+        return BINDERS.get(dataType);
+    }
+
+    /**
+     * Binds all parameters in order, starting at index 1, by their Java type.
+     *
+     * @param statement the statement to bind to
+     * @param params    the parameter values in placeholder order
+     * @throws SQLException if binding fails
+     */
+    public static void bind(PreparedStatement statement, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            bind(statement, i + 1, params.get(i));
+        }
+    }
+
+    /**
+     * Binds all parameters in order, starting at index 1, with the binder of their column.
+     *
+     * @param statement the statement to bind to
+     * @param params    the parameter values in placeholder order
+     * @param binders   the binder per parameter; null (or a null entry) binds by the Java type
+     * @throws SQLException if binding fails
+     */
+    public static void bind(PreparedStatement statement, List<Object> params, ColumnBinder[] binders) throws SQLException {
+        if (binders == null) {
+            bind(statement, params);
+            return;
+        }
+        for (int i = 0; i < params.size(); i++) {
+            ColumnBinder binder = binders[i];
+            if (binder != null) {
+                binder.bind(statement, i + 1, params.get(i));
+            } else {
+                bind(statement, i + 1, params.get(i));
+            }
+        }
+    }
+
+    /**
+     * Binds a single parameter using the setter that matches its Java type.
+     *
+     * @param statement the statement to bind to
+     * @param index     the 1-based parameter index
+     * @param value     the value to bind (may be null)
+     * @throws SQLException if binding fails
+     */
+    public static void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+        switch (value) {
+            case null -> statement.setNull(index, Types.NULL);
+            case String string -> statement.setString(index, string);
+            case Long number -> statement.setLong(index, number);
+            case Integer number -> statement.setInt(index, number);
+            case byte[] bytes -> statement.setBytes(index, bytes);
+            case Boolean bool -> statement.setBoolean(index, bool);
+            case Short number -> statement.setShort(index, number);
+            case Byte number -> statement.setByte(index, number);
+            case Double number -> statement.setDouble(index, number);
+            case Float number -> statement.setFloat(index, number);
+            case BigDecimal decimal -> statement.setBigDecimal(index, decimal);
+            case Timestamp timestamp -> statement.setTimestamp(index, timestamp);
+            case Date date -> statement.setDate(index, date);
+            case Time time -> statement.setTime(index, time);
+            default -> statement.setObject(index, value);
+        }
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    // Values that do not fit the column's setter, e.g. a String for a numeric column, are left to the driver
+    private static void bindOther(PreparedStatement statement, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, sqlType);
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+}
@@ -34,6 +34,11 @@ import java.sql.SQLException;
  * }
  * }</pre>
  * 
+ * <h3>Reading by Index</h3>
+ * 
+ * <p>For large results, prefer {@link #indexed(IndexedRowMapper)}, which resolves the column
+ * positions once per result set instead of looking up every column by name on every row.
+ * 
  * <h3>ResultSet State</h3>
  * 
  * <p>The ResultSet cursor is positioned at the current row when this method is called.
@@ -75,4 +80,37 @@ public interface RowMapper<T> {
      * @throws SQLException if a database access error occurs or the column index/name is invalid
      */
     T map(ResultSet rs) throws SQLException;
+
+    /**
+     * Creates a row mapper that resolves the column positions once per result set.
+     * 
+     * <p>The returned mapper remembers the last result set it was called with and only resolves a
+     * new {@link ColumnIndex} and binds {@code mapper} to it when it sees a different one; all other
+     * rows go straight to the bound mapper. It is therefore stateful and must not be shared between
+     * threads; create one per query execution.
+     * 
+     * @param <T>    the type of the domain object to map to
+     * @param mapper the index-based mapper
+     * @return a row mapper delegating to {@code mapper}
+     * @throws NullPointerException if mapper is null
+     * @see ColumnIndex
+     */
+    static <T> RowMapper<T> indexed(IndexedRowMapper<T> mapper) {
+        if (mapper == null) {
+            throw new NullPointerException("Mapper cannot be null");
+        }
+        return new RowMapper<>() {
+            private ResultSet resultSet;
+            private RowMapper<T> bound;
+
+            @Override
+            public T map(ResultSet rs) throws SQLException {
+                if (rs != this.resultSet) {
+                    this.bound = mapper.bind(ColumnIndex.resolve(rs));
+                    this.resultSet = rs;
+                }
+                return this.bound.map(rs);
+            }
+        };
+    }
 }
@@ -65,17 +65,22 @@ public class SQLColumn {
     private final Column column;
     private final String value;
     private final ForeignKey foreignKey;
+    // Null for columns defined from a raw type string; their parameters are bound by Java type
+    private final SQLDataType dataType;
 
     public SQLColumn(Column column, String value) {
-        this.column = column;
-        this.value = value;
-        this.foreignKey = null;
+        this(column, value, null, null);
     }
 
     public SQLColumn(Column column, String value, ForeignKey foreignKey) {
+        this(column, value, foreignKey, null);
+    }
+
+    public SQLColumn(Column column, String value, ForeignKey foreignKey, SQLDataType dataType) {
         this.column = column;
         this.value = value;
         this.foreignKey = foreignKey;
+        this.dataType = dataType;
     }
 
     public static SQLColumn from(Column column, String value) {
@@ -90,7 +95,7 @@ public class SQLColumn {
         String valueString = value.getQueryText();
         if (notNull) valueString += " " + SQLDataType.NOT_NULL.getQueryText();
         valueString += " " + SQLDataType.PRIMARY_KEY.getQueryText();
-        return new SQLColumn(column, valueString);
+        return new SQLColumn(column, valueString, null, value);
     }
 
     public static SQLColumn fromPrimary(Column column, SQLDataType value) {
@@ -114,7 +119,7 @@ public class SQLColumn {
         if (notNull) valueString += " " + SQLDataType.NOT_NULL.getQueryText();
         valueString += " " + SQLDataType.AUTO_INCREMENT.getQueryText();
         valueString += " " + SQLDataType.PRIMARY_KEY.getQueryText();
-        return new SQLColumn(column, valueString);
+        return new SQLColumn(column, valueString, null, value);
     }
 
     public static SQLColumn fromPrimaryAutoIncrement(Column column, SQLDataType value) {
@@ -130,7 +135,7 @@ public class SQLColumn {
     }
 
     public static SQLColumn from(Column column, SQLDataType dataType) {
-        return new SQLColumn(column, dataType.getQueryText() + " " + SQLDataType.NOT_NULL.getQueryText());
+        return new SQLColumn(column, dataType.getQueryText() + " " + SQLDataType.NOT_NULL.getQueryText(), null, dataType);
     }
 
     public static SQLColumn from(String key, SQLDataType dataType) {
@@ -138,7 +143,7 @@ public class SQLColumn {
     }
 
     public static SQLColumn fromNullable(Column column, SQLDataType dataType) {
-        return new SQLColumn(column, dataType.getQueryText());
+        return new SQLColumn(column, dataType.getQueryText(), null, dataType);
     }
 
     public static SQLColumn fromNullable(String key, SQLDataType dataType) {
@@ -156,7 +161,7 @@ public class SQLColumn {
     public static SQLColumn fromForeignKey(Column column, SQLDataType dataType, Table referencedTable, Column referencedColumn) {
         String valueString = dataType.getQueryText() + " " + SQLDataType.NOT_NULL.getQueryText();
         ForeignKey foreignKey = new ForeignKey(referencedTable, referencedColumn);
-        return new SQLColumn(column, valueString, foreignKey);
+        return new SQLColumn(column, valueString, foreignKey, dataType);
     }
 
     /**
@@ -170,7 +175,7 @@ public class SQLColumn {
     public static SQLColumn fromNullableForeignKey(Column column, SQLDataType dataType, Table referencedTable, Column referencedColumn) {
         String valueString = dataType.getQueryText();
         ForeignKey foreignKey = new ForeignKey(referencedTable, referencedColumn);
-        return new SQLColumn(column, valueString, foreignKey);
+        return new SQLColumn(column, valueString, foreignKey, dataType);
     }
 
     /**
@@ -209,7 +214,7 @@ public class SQLColumn {
         String valueString = dataType.getQueryText() + " " + SQLDataType.NOT_NULL.getQueryText();
         valueString += " " + SQLDataType.PRIMARY_KEY.getQueryText();
         ForeignKey foreignKey = new ForeignKey(referencedTable, referencedColumn);
-        return new SQLColumn(column, valueString, foreignKey);
+        return new SQLColumn(column, valueString, foreignKey, dataType);
     }
 
     /**
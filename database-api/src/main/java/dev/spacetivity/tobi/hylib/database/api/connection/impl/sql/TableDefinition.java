@@ -1,5 +1,6 @@
 package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.sql.Connection;
@@ -8,7 +9,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -64,12 +67,21 @@ public class TableDefinition {
     private final List<SQLColumn> values;
 
     private final List<Column> tableFields;
+    @Getter(AccessLevel.NONE)
+    private final Map<Column, ColumnBinder> binders;
 
     public TableDefinition(Connection connection, Table table, List<SQLColumn> values) {
         this.connection = connection;
         this.table = table;
         this.values = values;
         this.tableFields = this.values.stream().map(SQLColumn::getColumn).toList();
+        this.binders = new HashMap<>();
+        for (SQLColumn sqlColumn : this.values) {
+            ColumnBinder binder = sqlColumn.getDataType() != null ? ParameterBinder.forType(sqlColumn.getDataType()) : null;
+            if (binder != null) {
+                this.binders.put(sqlColumn.getColumn(), binder);
+            }
+        }
     }
 
     /**
@@ -247,6 +259,50 @@ public class TableDefinition {
         return new TableDefinition(connection, Table.of(tableName), Arrays.stream(values).toList());
     }
 
+    /**
+     * Returns the columns that are part of the primary key.
+     * 
+     * @return the primary key columns in definition order (may be empty, never null)
+     */
+    public List<Column> getPrimaryKeyColumns() {
+        return values.stream()
+                .filter(sqlColumn -> sqlColumn.getValue().contains(SQLDataType.PRIMARY_KEY.getQueryText()))
+                .map(SQLColumn::getColumn)
+                .toList();
+    }
+
+    /**
+     * Returns the parameter binder for a column of this table.
+     *
+     * @param column the column
+     * @return the binder for the column's {@link SQLDataType}, or null if the column is unknown or was
+     *         defined from a raw type string
+     */
+    public ColumnBinder getBinder(Column column) {
+        return column != null ? binders.get(column) : null;
+    }
+
+    /**
+     * Resolves the binder of each parameter of a query.
+     *
+     * @param paramColumns the column per parameter, as in
+     *                     {@link dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.BuiltQuery#paramColumns()};
+     *                     may be null
+     * @return one binder per parameter (null entries bind by Java type), or null if no parameter has a known type
+     */
+    public ColumnBinder[] resolveBinders(List<Column> paramColumns) {
+        if (paramColumns == null) {
+            return null;
+        }
+        ColumnBinder[] result = new ColumnBinder[paramColumns.size()];
+        boolean typed = false;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getBinder(paramColumns.get(i));
+            typed |= result[i] != null;
+        }
+        return typed ? result : null;
+    }
+
     /**
      * Gets the table name as a string.
      * 
@@ -1,5 +1,8 @@
 package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder;
 
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Column;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.ParameterBinder;
+
 import java.util.List;
 
 /**
@@ -20,9 +23,7 @@ import java.util.List;
  * 
  * // Execute with PreparedStatement
  * try (PreparedStatement stmt = connection.prepareStatement(query.sql())) {
- *     for (int i = 0; i < query.params().size(); i++) {
- *         stmt.setObject(i + 1, query.params().get(i));
- *     }
+ *     ParameterBinder.bind(stmt, query.params());
  *     ResultSet rs = stmt.executeQuery();
  *     // Process results...
  * }
@@ -33,6 +34,9 @@ import java.util.List;
  * <p>The parameters list contains values in the order they appear in the SQL string.
  * Each {@code ?} placeholder in the SQL corresponds to one parameter in the list.
  * Parameters are bound using 1-based indexing (first parameter is index 1).
+ * {@link #paramColumns()} records the column each parameter is compared with or written to,
+ * so {@link ParameterBinder} can bind it with the setter of the column's
+ * {@link dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.SQLDataType}.
  * 
  * <h3>SQL Injection Safety</h3>
  * 
@@ -41,19 +45,21 @@ import java.util.List;
  * This ensures protection against SQL injection attacks.
  * 
  * @param sql    the SQL query string with {@code ?} placeholders for parameters
- * @param params the list of parameter values in the order they appear in the SQL
+ * @param params       the list of parameter values in the order they appear in the SQL
+ * @param paramColumns the column of each parameter (null entries where unknown), or null if none is known
  * @see java.sql.PreparedStatement
  * @see SqlBuilder
  * @since 1.0
  */
-public record BuiltQuery(String sql, List<Object> params) {
+public record BuiltQuery(String sql, List<Object> params, List<Column> paramColumns) {
     
     /**
      * Validates the BuiltQuery during construction.
      * 
-     * @param sql    the SQL query string
-     * @param params the parameter list
-     * @throws IllegalArgumentException if sql is null/blank or params is null
+     * @param sql          the SQL query string
+     * @param params       the parameter list
+     * @param paramColumns the column per parameter, or null
+     * @throws IllegalArgumentException if sql is null/blank, params is null or paramColumns does not match params in size
      */
     public BuiltQuery {
         if (sql == null || sql.isBlank()) {
@@ -62,5 +68,18 @@ public record BuiltQuery(String sql, List<Object> params) {
         if (params == null) {
             throw new IllegalArgumentException("Parameters list cannot be null");
         }
+        if (paramColumns != null && paramColumns.size() != params.size()) {
+            throw new IllegalArgumentException("Expected " + params.size() + " parameter columns but got " + paramColumns.size());
+        }
+    }
+
+    /**
+     * Creates a query whose parameter columns are unknown; parameters are bound by their Java type.
+     *
+     * @param sql    the SQL query string
+     * @param params the parameter list
+     */
+    public BuiltQuery(String sql, List<Object> params) {
+        this(sql, params, null);
     }
 }
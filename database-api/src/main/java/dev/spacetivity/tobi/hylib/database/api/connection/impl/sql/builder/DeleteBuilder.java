@@ -50,6 +50,7 @@ public class DeleteBuilder {
     private final Table table;
     private final List<String> whereConditions = new ArrayList<>();
     private final List<Object> params = new ArrayList<>();
+    private final List<Column> paramColumns = new ArrayList<>();
 
     DeleteBuilder(Table table) {
         this.table = table;
@@ -80,6 +81,7 @@ public class DeleteBuilder {
     public DeleteBuilder where(Column column, Object value) {
         whereConditions.add(column.toSql() + " = ?");
         params.add(value);
+        paramColumns.add(column);
         return this;
     }
 
@@ -99,6 +101,6 @@ public class DeleteBuilder {
 
         String sql = "DELETE FROM " + table.toSql() + " WHERE " + String.join(" AND ", whereConditions);
 
-        return new BuiltQuery(sql, new ArrayList<>(params));
+        return new BuiltQuery(sql, new ArrayList<>(params), new ArrayList<>(paramColumns));
     }
 }
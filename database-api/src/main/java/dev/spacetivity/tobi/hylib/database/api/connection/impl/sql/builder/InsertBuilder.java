@@ -41,6 +41,23 @@ import java.util.List;
  *     .build();
  * }</pre>
  * 
+ * <h3>Multi-Row Insert</h3>
+ * 
+ * <p>For bulk inserts, declare the columns once and add one {@link #row(Object...)} per record.
+ * This produces {@code INSERT INTO t (a, b) VALUES (?, ?), (?, ?), ...}:
+ * 
+ * <pre>{@code
+ * InsertBuilder builder = SqlBuilder.insertInto(usersTable).columns(idCol, nameCol);
+ * for (User user : users) {
+ *     builder.row(user.getId(), user.getName());
+ * }
+ * List<BuiltQuery> queries = builder.buildChunks();
+ * }</pre>
+ * 
+ * <p>{@link #buildChunks()} splits the rows into several statements so that each one stays below
+ * the placeholder limit ({@value #MAX_PLACEHOLDERS}) and the configured packet size
+ * (see {@link #maxPacketBytes(long)}).
+ * 
  * <h3>SQL Injection Protection</h3>
  * 
  * <p>All table and column names use validated identifiers, and all values are
@@ -51,9 +68,24 @@ import java.util.List;
  * @since 1.0
  */
 public class InsertBuilder {
+
+    /**
+     * Maximum number of {@code ?} placeholders allowed in a single prepared statement.
+     */
+    public static final int MAX_PLACEHOLDERS = 65535;
+
+    /**
+     * Default upper bound for the estimated size of a single statement in bytes. This is a quarter
+     * of MariaDB's default {@code max_allowed_packet} (16 MiB) to leave room for protocol overhead.
+     */
+    public static final long DEFAULT_MAX_PACKET_BYTES = 4L * 1024 * 1024;
+
     private final Table table;
     private final List<Column> columns = new ArrayList<>();
     private final List<Object> values = new ArrayList<>();
+    private final List<Object[]> rows = new ArrayList<>();
+    private boolean rowMode = false;
+    private long maxPacketBytes = DEFAULT_MAX_PACKET_BYTES;
 
     InsertBuilder(Table table) {
         this.table = table;
@@ -79,6 +111,7 @@ public class InsertBuilder {
      * @throws NullPointerException if column is null
      */
     public InsertBuilder value(Column column, Object value) {
+        checkSingleRowMode();
         columns.add(column);
         values.add(value);
         return this;
@@ -109,31 +142,185 @@ public class InsertBuilder {
         if (columns.length != values.length) {
             throw new IllegalArgumentException("Column count must match value count");
         }
+        checkSingleRowMode();
         this.columns.addAll(Arrays.asList(columns));
         this.values.addAll(Arrays.asList(values));
         return this;
     }
 
+    /**
+     * Declares the columns for a multi-row insert.
+     * 
+     * <p>Switches the builder into row mode. Values are then added via {@link #row(Object...)};
+     * {@link #value(Column, Object)} and {@link #values(Column[], Object[])} can no longer be used.
+     * 
+     * <h3>Example</h3>
+     * 
+     * <pre>{@code
+     * .columns(idCol, nameCol)
+     * .row(1, "John")
+     * .row(2, "Jane")
+     * }</pre>
+     * 
+     * @param columns the columns to insert into (must not be empty)
+     * @return this builder for method chaining
+     * @throws IllegalArgumentException if no columns are given
+     * @throws IllegalStateException if columns or values have already been specified
+     */
+    public InsertBuilder columns(Column... columns) {
+        if (columns == null || columns.length == 0) {
+            throw new IllegalArgumentException("At least one column must be specified");
+        }
+        if (!this.columns.isEmpty()) {
+            throw new IllegalStateException("Columns have already been specified");
+        }
+        this.columns.addAll(Arrays.asList(columns));
+        this.rowMode = true;
+        return this;
+    }
+
+    /**
+     * Adds a row of values for a multi-row insert.
+     * 
+     * <p>The values must be given in the order of {@link #columns(Column...)}.
+     * 
+     * @param values the row values (must match column count)
+     * @return this builder for method chaining
+     * @throws IllegalStateException if {@link #columns(Column...)} was not called
+     * @throws IllegalArgumentException if the value count does not match the column count
+     */
+    public InsertBuilder row(Object... values) {
+        if (!rowMode) {
+            throw new IllegalStateException("Columns must be specified using columns() before adding rows");
+        }
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Row value count must match column count");
+        }
+        rows.add(values.clone());
+        return this;
+    }
+
+    /**
+     * Sets the maximum estimated statement size used by {@link #buildChunks()}.
+     * 
+     * <p>Should stay below the server's {@code max_allowed_packet}. Defaults to
+     * {@link #DEFAULT_MAX_PACKET_BYTES}.
+     * 
+     * @param maxPacketBytes the maximum estimated size of a single statement in bytes (must be positive)
+     * @return this builder for method chaining
+     * @throws IllegalArgumentException if maxPacketBytes is not positive
+     */
+    public InsertBuilder maxPacketBytes(long maxPacketBytes) {
+        if (maxPacketBytes <= 0) {
+            throw new IllegalArgumentException("Max packet bytes must be positive");
+        }
+        this.maxPacketBytes = maxPacketBytes;
+        return this;
+    }
+
     /**
      * Builds the final INSERT query.
      * 
      * <p>This method constructs the complete SQL INSERT statement with parameterized values.
-     * At least one column-value pair must be specified.
+     * At least one column-value pair (or, in row mode, at least one row) must be specified.
+     * In row mode all rows are put into a single statement; use {@link #buildChunks()} for
+     * large row counts.
      * 
      * @return a {@link BuiltQuery} containing the SQL string and parameters
-     * @throws IllegalStateException if no columns are specified
+     * @throws IllegalStateException if no columns or rows are specified, or if the rows exceed
+     *                               {@link #MAX_PLACEHOLDERS} placeholders
      */
     public BuiltQuery build() {
         if (columns.isEmpty()) {
             throw new IllegalStateException("At least one column-value pair must be specified");
         }
+        if (!rowMode) {
+            return buildRows(List.<Object[]>of(values.toArray()));
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("At least one row must be specified");
+        }
+        if ((long) rows.size() * columns.size() > MAX_PLACEHOLDERS) {
+            throw new IllegalStateException("Too many placeholders for a single statement, use buildChunks()");
+        }
+        return buildRows(rows);
+    }
+
+    /**
+     * Builds the rows as one or more multi-row INSERT queries.
+     * 
+     * <p>Rows are split so that no statement exceeds {@link #MAX_PLACEHOLDERS} placeholders or the
+     * estimated size set via {@link #maxPacketBytes(long)}. A single row that is larger than the
+     * packet limit still gets its own statement. Outside of row mode this returns {@link #build()}.
+     * 
+     * @return the INSERT queries in row order, never empty
+     * @throws IllegalStateException if no columns or rows are specified
+     */
+    public List<BuiltQuery> buildChunks() {
+        if (!rowMode) {
+            return List.of(build());
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("At least one row must be specified");
+        }
 
+        int maxRowsByPlaceholders = Math.max(1, MAX_PLACEHOLDERS / columns.size());
+        List<BuiltQuery> queries = new ArrayList<>();
+        int chunkStart = 0;
+        long chunkBytes = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            long rowBytes = estimateBytes(rows.get(i));
+            int chunkRows = i - chunkStart;
+            if (chunkRows > 0 && (chunkRows >= maxRowsByPlaceholders || chunkBytes + rowBytes > maxPacketBytes)) {
+                queries.add(buildRows(rows.subList(chunkStart, i)));
+                chunkStart = i;
+                chunkBytes = 0;
+            }
+            chunkBytes += rowBytes;
+        }
+        queries.add(buildRows(rows.subList(chunkStart, rows.size())));
+        return queries;
+    }
+
+    private BuiltQuery buildRows(List<Object[]> chunk) {
         String columnList = String.join(", ", columns.stream().map(Column::toSql).toList());
         String placeholders = "?, ".repeat(columns.size());
-        placeholders = placeholders.substring(0, placeholders.length() - 2); // Remove trailing ", "
+        placeholders = "(" + placeholders.substring(0, placeholders.length() - 2) + ")"; // Remove trailing ", "
+
+        StringBuilder sql = new StringBuilder("INSERT INTO ")
+                .append(table.toSql())
+                .append(" (").append(columnList).append(") VALUES ");
+        List<Object> params = new ArrayList<>(chunk.size() * columns.size());
+        List<Column> paramColumns = new ArrayList<>(chunk.size() * columns.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholders);
+            params.addAll(Arrays.asList(chunk.get(i)));
+            paramColumns.addAll(columns);
+        }
+
+        return new BuiltQuery(sql.toString(), params, paramColumns);
+    }
 
-        String sql = "INSERT INTO " + table.toSql() + " (" + columnList + ") VALUES (" + placeholders + ")";
+    private long estimateBytes(Object[] row) {
+        long bytes = 4L * row.length + 2; // placeholder text and separators
+        for (Object value : row) {
+            if (value instanceof byte[] array) {
+                bytes += array.length;
+            } else if (value instanceof CharSequence text) {
+                bytes += 4L * text.length(); // worst case for utf8mb4
+            } else if (value != null) {
+                bytes += 8;
+            }
+        }
+        return bytes;
+    }
 
-        return new BuiltQuery(sql, new ArrayList<>(values));
+    private void checkSingleRowMode() {
+        if (rowMode) {
+            throw new IllegalStateException("Use row() to add values after columns() has been called");
+        }
     }
 }
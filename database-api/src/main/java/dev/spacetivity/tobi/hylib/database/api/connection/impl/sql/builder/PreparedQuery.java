@@ -0,0 +1,101 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder;
+
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Column;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A precompiled SQL template that is built once and bound to new parameters per call.
+ *
+ * <p>Building a query through {@link SqlBuilder} creates the SQL string on every call. For queries
+ * that are executed often with the same shape (e.g. lookups by primary key), the SQL can be built
+ * once from a template query and stored as a constant. Each execution then only binds the parameters,
+ * without any string building.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * // Build once; the template values are only placeholders
+ * private static final PreparedQuery CHANGE_NAME = PreparedQuery.of(SqlBuilder.update(USERS_TABLE)
+ *     .set(NAME_COL, null)
+ *     .where(ID_COL, null)
+ *     .build());
+ *
+ * // Bind per call, in placeholder order
+ * executeUpdate(CHANGE_NAME.bind("Jane", 123));
+ * }</pre>
+ *
+ * <h3>Parameter Order</h3>
+ *
+ * <p>Parameters must be passed in the order of the {@code ?} placeholders in {@link #sql()},
+ * which is the order of {@link BuiltQuery#params()} of the template. For UPDATE queries the SET
+ * values come before the WHERE values.
+ *
+ * @param sql            the SQL string with {@code ?} placeholders
+ * @param parameterCount   the number of placeholders
+ * @param parameterColumns the column of each placeholder, taken from the template; may be null
+ * @see BuiltQuery
+ * @see SqlBuilder
+ * @since 1.0
+ */
+public record PreparedQuery(String sql, int parameterCount, List<Column> parameterColumns) {
+
+    /**
+     * Validates the PreparedQuery during construction.
+     *
+     * @param sql              the SQL query string
+     * @param parameterCount   the number of placeholders
+     * @param parameterColumns the column per placeholder, or null
+     * @throws IllegalArgumentException if sql is null/blank, parameterCount is negative or does not match parameterColumns
+     */
+    public PreparedQuery {
+        if (sql == null || sql.isBlank()) {
+            throw new IllegalArgumentException("SQL query cannot be null or blank");
+        }
+        if (parameterCount < 0) {
+            throw new IllegalArgumentException("Parameter count cannot be negative");
+        }
+        if (parameterColumns != null && parameterColumns.size() != parameterCount) {
+            throw new IllegalArgumentException("Expected " + parameterCount + " parameter columns but got " + parameterColumns.size());
+        }
+    }
+
+    /**
+     * Creates a template whose parameter columns are unknown.
+     *
+     * @param sql            the SQL query string
+     * @param parameterCount the number of placeholders
+     */
+    public PreparedQuery(String sql, int parameterCount) {
+        this(sql, parameterCount, null);
+    }
+
+    /**
+     * Compiles a template query. The parameter values of the template are discarded.
+     *
+     * @param template the query built with placeholder values
+     * @return the compiled template
+     * @throws NullPointerException if template is null
+     */
+    public static PreparedQuery of(BuiltQuery template) {
+        return new PreparedQuery(template.sql(), template.params().size(), template.paramColumns());
+    }
+
+    /**
+     * Binds parameters to this template.
+     *
+     * <p>The parameter array is wrapped, not copied, and must not be modified afterwards.
+     *
+     * @param params the parameter values in placeholder order
+     * @return a {@link BuiltQuery} ready for execution
+     * @throws IllegalArgumentException if the number of parameters does not match {@link #parameterCount()}
+     */
+    public BuiltQuery bind(Object... params) {
+        if (params.length != parameterCount) {
+            throw new IllegalArgumentException("Expected " + parameterCount + " parameters but got " + params.length);
+        }
+        return new BuiltQuery(sql, Arrays.asList(params), parameterColumns);
+    }
+
+}
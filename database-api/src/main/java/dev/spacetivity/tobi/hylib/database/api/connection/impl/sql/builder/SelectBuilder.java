@@ -5,6 +5,8 @@ import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Table;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -15,9 +17,10 @@ import java.util.List;
  *   <li>Column selection</li>
  *   <li>Table specification (FROM clause)</li>
  *   <li>JOINs (INNER, LEFT, RIGHT)</li>
- *   <li>WHERE conditions (multiple AND conditions)</li>
+ *   <li>WHERE conditions (multiple AND conditions, IN lists)</li>
  *   <li>ORDER BY clause</li>
  *   <li>LIMIT clause</li>
+ *   <li>Keyset (seek) pagination</li>
  * </ul>
  * 
  * <h3>Usage Example</h3>
@@ -38,6 +41,21 @@ import java.util.List;
  *     .build();
  * }</pre>
  * 
+ * <h3>Keyset Pagination</h3>
+ * 
+ * <p>Instead of skipping rows with an offset, {@link #after(Column, Object)} continues after the last
+ * key of the previous page. With an index on the key column every page costs the same, no matter how
+ * deep it is:
+ * 
+ * <pre>{@code
+ * BuiltQuery nextPage = SqlBuilder.select(idCol, nameCol)
+ *     .from(usersTable)
+ *     .after(idCol, lastIdOfPreviousPage)
+ *     .pageSize(50)
+ *     .build();
+ * // SELECT `id`, `name` FROM `users` WHERE `id` > ? ORDER BY `id` ASC LIMIT 50
+ * }</pre>
+ * 
  * <h3>SQL Injection Protection</h3>
  * 
  * <p>All table and column names use validated identifiers, and all values are
@@ -53,9 +71,12 @@ public class SelectBuilder {
     private final List<Join> joins = new ArrayList<>();
     private final List<String> whereConditions = new ArrayList<>();
     private final List<Object> params = new ArrayList<>();
-    private String orderByColumn;
+    private final List<Column> paramColumns = new ArrayList<>();
+    private Column orderByColumn;
     private boolean orderAsc = true;
     private Integer limitValue;
+    private Column seekColumn;
+    private Object seekValue;
 
     SelectBuilder(Column... columns) {
         this.columns = Arrays.asList(columns);
@@ -169,6 +190,7 @@ public class SelectBuilder {
     public SelectBuilder where(Column column, Object value) {
         whereConditions.add(column.toSql() + " = ?");
         params.add(value);
+        paramColumns.add(column);
         return this;
     }
 
@@ -195,6 +217,43 @@ public class SelectBuilder {
     public SelectBuilder where(Table table, Column column, Object value) {
         whereConditions.add(table.toSql() + "." + column.toSql() + " = ?");
         params.add(value);
+        // May belong to a joined table, so its type is not known from the queried table
+        paramColumns.add(null);
+        return this;
+    }
+
+    /**
+     * Adds a WHERE condition (column IN (value1, value2, ...)).
+     * 
+     * <p>Each value gets its own placeholder. Like {@link #where(Column, Object)}, the condition is
+     * combined with other conditions using AND. An empty collection matches no rows.
+     * 
+     * <p>Very large collections should be split into several queries (see
+     * {@link dev.spacetivity.tobi.hylib.database.api.repository.impl.AbstractMariaDbRepository#getManySync(Column, Collection)}).
+     * 
+     * <h3>Example</h3>
+     * 
+     * <pre>{@code
+     * .whereIn(idCol, List.of(1, 2, 3))
+     * }</pre>
+     * 
+     * <p>This generates: {@code WHERE `id` IN (?, ?, ?)}
+     * 
+     * @param column the column to compare
+     * @param values the values to match (will be parameterized)
+     * @return this builder for method chaining
+     * @throws NullPointerException if column or values is null
+     */
+    public SelectBuilder whereIn(Column column, Collection<?> values) {
+        if (values.isEmpty()) {
+            whereConditions.add("0 = 1");
+            return this;
+        }
+        String placeholders = "?, ".repeat(values.size());
+        placeholders = placeholders.substring(0, placeholders.length() - 2); // Remove trailing ", "
+        whereConditions.add(column.toSql() + " IN (" + placeholders + ")");
+        params.addAll(values);
+        paramColumns.addAll(Collections.nCopies(values.size(), column));
         return this;
     }
 
@@ -217,7 +276,7 @@ public class SelectBuilder {
      * @throws NullPointerException if column is null
      */
     public SelectBuilder orderBy(Column column, boolean ascending) {
-        this.orderByColumn = column.toSql();
+        this.orderByColumn = column;
         this.orderAsc = ascending;
         return this;
     }
@@ -245,6 +304,49 @@ public class SelectBuilder {
         return this;
     }
 
+    /**
+     * Sets the page size for keyset pagination.
+     * 
+     * <p>This is equivalent to {@link #limit(int)} and is meant to be combined with
+     * {@link #after(Column, Object)}.
+     * 
+     * @param pageSize the maximum number of rows per page (must be positive)
+     * @return this builder for method chaining
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public SelectBuilder pageSize(int pageSize) {
+        return limit(pageSize);
+    }
+
+    /**
+     * Continues a keyset (seek) pagination after the given key.
+     * 
+     * <p>Adds {@code column > ?} (or {@code column < ?} if ordered descending via
+     * {@link #orderBy(Column, boolean)} on the same column) to the WHERE clause and orders by
+     * {@code column}. If no ORDER BY is specified, the result is ordered ascending. Pass
+     * {@code null} as the key to request the first page.
+     * 
+     * <p>The column should be unique (e.g. the primary key) and indexed, otherwise rows with
+     * equal keys may be skipped between pages.
+     * 
+     * <h3>Example</h3>
+     * 
+     * <pre>{@code
+     * .after(idCol, 150)   // WHERE `id` > ? ORDER BY `id` ASC
+     * .pageSize(50)
+     * }</pre>
+     * 
+     * @param column the key column to seek on
+     * @param key    the last key of the previous page, or {@code null} for the first page
+     * @return this builder for method chaining
+     * @throws NullPointerException if column is null
+     */
+    public SelectBuilder after(Column column, Object key) {
+        this.seekColumn = column;
+        this.seekValue = key;
+        return this;
+    }
+
     /**
      * Builds the final SELECT query.
      * 
@@ -252,7 +354,8 @@ public class SelectBuilder {
      * The table must be specified using {@link #from(Table)} before calling this method.
      * 
      * @return a {@link BuiltQuery} containing the SQL string and parameters
-     * @throws IllegalStateException if table is not set (from() was not called)
+     * @throws IllegalStateException if table is not set (from() was not called), or if
+     *                               {@link #after(Column, Object)} is combined with an ORDER BY on another column
      */
     public BuiltQuery build() {
         if (table == null) {
@@ -270,12 +373,30 @@ public class SelectBuilder {
             sql.append(" = ").append(join.rightColumn().toSql());
         }
 
-        if (!whereConditions.isEmpty()) {
-            sql.append(" WHERE ").append(String.join(" AND ", whereConditions));
+        List<String> conditions = whereConditions;
+        List<Object> allParams = new ArrayList<>(params);
+        List<Column> allParamColumns = new ArrayList<>(paramColumns);
+        Column orderColumn = orderByColumn;
+        if (seekColumn != null) {
+            if (orderColumn == null) {
+                orderColumn = seekColumn;
+            } else if (!orderColumn.equals(seekColumn)) {
+                throw new IllegalStateException("Keyset pagination requires ordering by the seek column");
+            }
+            if (seekValue != null) {
+                conditions = new ArrayList<>(whereConditions);
+                conditions.add(seekColumn.toSql() + (orderAsc ? " > ?" : " < ?"));
+                allParams.add(seekValue);
+                allParamColumns.add(seekColumn);
+            }
+        }
+
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
         }
 
-        if (orderByColumn != null) {
-            sql.append(" ORDER BY ").append(orderByColumn);
+        if (orderColumn != null) {
+            sql.append(" ORDER BY ").append(orderColumn.toSql());
             sql.append(orderAsc ? " ASC" : " DESC");
         }
 
@@ -283,6 +404,6 @@ public class SelectBuilder {
             sql.append(" LIMIT ").append(limitValue);
         }
 
-        return new BuiltQuery(sql.toString(), new ArrayList<>(params));
+        return new BuiltQuery(sql.toString(), allParams, allParamColumns);
     }
 }
@@ -16,6 +16,7 @@ import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Table;
  * <ul>
  *   <li>{@link #select(Column...)} - SELECT queries</li>
  *   <li>{@link #insertInto(Table)} - INSERT queries</li>
+ *   <li>{@link #upsertInto(Table)} - INSERT ... ON DUPLICATE KEY UPDATE queries</li>
  *   <li>{@link #update(Table)} - UPDATE queries</li>
  *   <li>{@link #deleteFrom(Table)} - DELETE queries</li>
  * </ul>
@@ -70,6 +71,7 @@ import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Table;
  * @see BuiltQuery
  * @see SelectBuilder
  * @see InsertBuilder
+ * @see UpsertBuilder
  * @see UpdateBuilder
  * @see DeleteBuilder
  * @since 1.0
@@ -131,6 +133,30 @@ public final class SqlBuilder {
         return new InsertBuilder(table);
     }
 
+    /**
+     * Creates an upsert query builder ({@code INSERT ... ON DUPLICATE KEY UPDATE}).
+     * 
+     * <p>This method starts building a query that inserts a row or updates it if a row with the
+     * same primary or unique key already exists.
+     * 
+     * <h3>Example</h3>
+     * 
+     * <pre>{@code
+     * BuiltQuery query = SqlBuilder.upsertInto(usersTable)
+     *     .insertOnly(idCol, 123)
+     *     .value(nameCol, "John")
+     *     .build();
+     * }</pre>
+     * 
+     * @param table the table to insert into or update
+     * @return an {@link UpsertBuilder} instance for building the upsert query
+     * @throws NullPointerException if table is null
+     * @see UpsertBuilder
+     */
+    public static UpsertBuilder upsertInto(Table table) {
+        return new UpsertBuilder(table);
+    }
+
     /**
      * Creates an UPDATE query builder.
      * 
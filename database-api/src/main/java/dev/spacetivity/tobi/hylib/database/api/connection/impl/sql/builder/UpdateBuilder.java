@@ -57,6 +57,7 @@ public class UpdateBuilder {
     private final Map<Column, Object> setValues = new LinkedHashMap<>();
     private final List<String> whereConditions = new ArrayList<>();
     private final List<Object> whereParams = new ArrayList<>();
+    private final List<Column> whereColumns = new ArrayList<>();
 
     UpdateBuilder(Table table) {
         this.table = table;
@@ -110,6 +111,7 @@ public class UpdateBuilder {
     public UpdateBuilder where(Column column, Object value) {
         whereConditions.add(column.toSql() + " = ?");
         whereParams.add(value);
+        whereColumns.add(column);
         return this;
     }
 
@@ -135,9 +137,11 @@ public class UpdateBuilder {
 
         List<String> setClauses = new ArrayList<>();
         List<Object> setParams = new ArrayList<>();
+        List<Column> allParamColumns = new ArrayList<>();
         for (Map.Entry<Column, Object> entry : setValues.entrySet()) {
             setClauses.add(entry.getKey().toSql() + " = ?");
             setParams.add(entry.getValue());
+            allParamColumns.add(entry.getKey());
         }
         sql.append(String.join(", ", setClauses));
 
@@ -145,7 +149,8 @@ public class UpdateBuilder {
 
         List<Object> allParams = new ArrayList<>(setParams);
         allParams.addAll(whereParams);
+        allParamColumns.addAll(whereColumns);
 
-        return new BuiltQuery(sql.toString(), allParams);
+        return new BuiltQuery(sql.toString(), allParams, allParamColumns);
     }
 }
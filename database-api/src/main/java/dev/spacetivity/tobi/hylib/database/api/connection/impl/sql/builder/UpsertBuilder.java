@@ -0,0 +1,134 @@
+package dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder;
+
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Column;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builder for constructing upsert queries ({@code INSERT ... ON DUPLICATE KEY UPDATE}).
+ *
+ * <p>This builder inserts a row, or updates the existing row if the insert would violate a
+ * PRIMARY KEY or UNIQUE constraint. This makes the write idempotent and avoids a separate
+ * existence check before inserting.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * Table usersTable = Table.of("users");
+ * Column idCol = Column.of("id");
+ * Column nameCol = Column.of("name");
+ *
+ * BuiltQuery query = SqlBuilder.upsertInto(usersTable)
+ *     .insertOnly(idCol, 123)
+ *     .value(nameCol, "John")
+ *     .build();
+ * }</pre>
+ *
+ * <p>This generates:
+ * {@code INSERT INTO `users` (`id`, `name`) VALUES (?, ?) ON DUPLICATE KEY UPDATE `name` = VALUES(`name`)}
+ *
+ * <h3>Insert-Only Columns</h3>
+ *
+ * <p>Columns added via {@link #insertOnly(Column, Object)} are written when the row is created but
+ * left untouched if it already exists. Use this for key columns and for values that must not be
+ * overwritten (e.g. a creation timestamp).
+ *
+ * <h3>SQL Injection Protection</h3>
+ *
+ * <p>All table and column names use validated identifiers, and all values are
+ * parameterized using PreparedStatement placeholders ({@code ?}).
+ *
+ * @see SqlBuilder#upsertInto(Table)
+ * @see BuiltQuery
+ * @since 1.0
+ */
+public class UpsertBuilder {
+    private final Table table;
+    private final List<Column> columns = new ArrayList<>();
+    private final List<Column> updateColumns = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+
+    UpsertBuilder(Table table) {
+        this.table = table;
+    }
+
+    /**
+     * Adds a column-value pair that is inserted, or updated if the row already exists.
+     *
+     * <h3>Example</h3>
+     *
+     * <pre>{@code
+     * .value(nameCol, "John")
+     * .value(emailCol, "john@example.com")
+     * }</pre>
+     *
+     * @param column the column name (validated identifier)
+     * @param value  the value to write (will be parameterized)
+     * @return this builder for method chaining
+     * @throws NullPointerException if column is null
+     */
+    public UpsertBuilder value(Column column, Object value) {
+        columns.add(column);
+        updateColumns.add(column);
+        values.add(value);
+        return this;
+    }
+
+    /**
+     * Adds a column-value pair that is only written when a new row is inserted.
+     *
+     * <p>Typically used for the primary key columns.
+     *
+     * <h3>Example</h3>
+     *
+     * <pre>{@code
+     * .insertOnly(idCol, 123)
+     * }</pre>
+     *
+     * @param column the column name (validated identifier)
+     * @param value  the value to insert (will be parameterized)
+     * @return this builder for method chaining
+     * @throws NullPointerException if column is null
+     */
+    public UpsertBuilder insertOnly(Column column, Object value) {
+        columns.add(column);
+        values.add(value);
+        return this;
+    }
+
+    /**
+     * Builds the final upsert query.
+     *
+     * <p>If no updatable columns were specified, the {@code ON DUPLICATE KEY UPDATE} clause assigns the
+     * first column to itself, so an existing row is left unchanged ("insert if absent").
+     *
+     * @return a {@link BuiltQuery} containing the SQL string and parameters
+     * @throws IllegalStateException if no columns are specified
+     */
+    public BuiltQuery build() {
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("At least one column-value pair must be specified");
+        }
+
+        String columnList = String.join(", ", columns.stream().map(Column::toSql).toList());
+        String placeholders = "?, ".repeat(columns.size());
+        placeholders = placeholders.substring(0, placeholders.length() - 2); // Remove trailing ", "
+
+        String updateList;
+        if (updateColumns.isEmpty()) {
+            String first = columns.get(0).toSql();
+            updateList = first + " = " + first;
+        } else {
+            updateList = String.join(", ", updateColumns.stream()
+                    .map(column -> column.toSql() + " = VALUES(" + column.toSql() + ")")
+                    .toList());
+        }
+
+        String sql = "INSERT INTO " + table.toSql() + " (" + columnList + ") VALUES (" + placeholders + ")"
+                + " ON DUPLICATE KEY UPDATE " + updateList;
+
+        return new BuiltQuery(sql, new ArrayList<>(values), new ArrayList<>(columns));
+    }
+}
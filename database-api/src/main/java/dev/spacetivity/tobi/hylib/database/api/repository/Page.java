@@ -0,0 +1,46 @@
+package dev.spacetivity.tobi.hylib.database.api.repository;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated result with the key to continue from.
+ *
+ * <p>Pass {@link #nextKey()} to the next page request (e.g.
+ * {@link dev.spacetivity.tobi.hylib.database.api.repository.impl.AbstractMariaDbRepository#getPage(dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Column, Object, int)})
+ * to fetch the following page.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * Page<User> page = repository.getPage(ID_COL, null, 50);
+ * while (true) {
+ *     page.items().forEach(this::process);
+ *     if (!page.hasNext()) break;
+ *     page = repository.getPage(ID_COL, page.nextKey(), 50);
+ * }
+ * }</pre>
+ *
+ * @param items   the items of this page, never null
+ * @param nextKey the key of the last item if more pages follow, otherwise {@code null}
+ * @param <T>     the item type
+ * @see dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.SelectBuilder#after(dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Column, Object)
+ * @since 1.0
+ */
+public record Page<T>(List<T> items, Object nextKey) {
+
+    public Page {
+        if (items == null) {
+            throw new IllegalArgumentException("Items cannot be null");
+        }
+    }
+
+    /**
+     * Returns whether another page follows this one.
+     *
+     * @return true if {@link #nextKey()} is set
+     */
+    public boolean hasNext() {
+        return nextKey != null;
+    }
+
+}
@@ -0,0 +1,244 @@
+package dev.spacetivity.tobi.hylib.database.api.repository;
+
+import dev.spacetivity.tobi.hylib.database.api.scheduler.ScheduledTask;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskScheduler;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Buffers changes per key and writes them in batches instead of one statement per change.
+ *
+ * <p>{@link #enqueue(Object, Object)} only records a change; several changes to the same key are merged
+ * into one, so a key that changes ten times between two flushes is written once. {@link #flush()} hands
+ * all pending changes to the writer in a single call, typically one {@code executeBatch} on a repository.
+ * Flush periodically with {@link #scheduleFlush(TaskScheduler, Duration)} and once more on shutdown.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * WriteBehindBuffer<UUID, Integer> coins = new WriteBehindBuffer<>(
+ *         (older, newer) -> newer,               // latest balance wins
+ *         pending -> coinRepository.updateBalances(pending));
+ * coins.scheduleFlush(DatabaseProvider.getApi().getScheduler(), Duration.ofSeconds(5));
+ *
+ * coins.enqueue(uuid, 150);
+ * coins.enqueue(uuid, 175);  // replaces 150; one UPDATE on the next flush
+ *
+ * // On shutdown
+ * coins.flush();
+ * }</pre>
+ *
+ * <h3>Failures</h3>
+ *
+ * <p>If the writer throws, the drained changes are put back (merged with changes enqueued in the meantime)
+ * and retried on the next flush. Changes that were never flushed are lost when the process dies, so use
+ * this only for data where losing the last few seconds is acceptable.
+ *
+ * @param <K> the key type
+ * @param <V> the change type
+ * @since 1.0
+ */
+public class WriteBehindBuffer<K, V> {
+
+    private final ConcurrentMap<K, V> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final BinaryOperator<V> merger;
+    private final Consumer<Map<K, V>> writer;
+
+    // Changes handed to the writer but not yet confirmed written; still visible via getPending
+    private volatile Map<K, V> flushing = Map.of();
+    // Keys of the batch being written that were discarded meanwhile; not put back if the write fails
+    private final Set<K> discardedWhileFlushing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a write-behind buffer.
+     *
+     * @param merger combines an older and a newer change to the same key, {@code (older, newer) -> merged}
+     * @param writer writes a batch of changes; called with at most one batch at a time
+     * @throws NullPointerException if merger or writer is null
+     */
+    public WriteBehindBuffer(BinaryOperator<V> merger, Consumer<Map<K, V>> writer) {
+        if (merger == null || writer == null) {
+            throw new NullPointerException("Merger and writer cannot be null");
+        }
+        this.merger = merger;
+        this.writer = writer;
+    }
+
+    /**
+     * Records a change, merging it with a pending change to the same key.
+     *
+     * @param key    the key
+     * @param change the change
+     * @throws NullPointerException if key or change is null
+     */
+    public void enqueue(K key, V change) {
+        this.pending.merge(key, change, this.merger);
+    }
+
+    /**
+     * Returns the change that is not yet written for the given key, or null if there is none.
+     *
+     * <p>Use this to overlay pending changes on data freshly read from the database, which does not
+     * contain them yet.
+     *
+     * @param key the key
+     * @return the pending change, or null
+     */
+    public V getPending(K key) {
+        // Pending first: a flush moves a change into the in-flight batch before removing it from pending
+        V queued = this.pending.get(key);
+        V inFlight = this.discardedWhileFlushing.contains(key) ? null : this.flushing.get(key);
+        if (inFlight == null || inFlight == queued) {
+            return queued;
+        }
+        return queued == null ? inFlight : this.merger.apply(inFlight, queued);
+    }
+
+    /**
+     * Returns all changes that are not yet written, as with {@link #getPending(Object)} for each key.
+     *
+     * <p>This copies the buffer; use it for lookups by something other than the key, e.g. to find a
+     * buffered rename.
+     *
+     * @return a snapshot of the pending changes by key
+     */
+    public Map<K, V> getAllPending() {
+        Map<K, V> result = new HashMap<>();
+        this.flushing.keySet().forEach(key -> result.put(key, null));
+        result.putAll(this.pending);
+        result.replaceAll((key, change) -> getPending(key));
+        result.values().removeIf(Objects::isNull);
+        return result;
+    }
+
+    /**
+     * Drops the pending change for a key without writing it, e.g. because the row was deleted.
+     *
+     * <p>A change that is part of the batch currently being written cannot be taken back and may still
+     * reach the database; if that write fails, the change is dropped instead of being retried.
+     *
+     * @param key the key
+     */
+    public void discard(K key) {
+        this.pending.remove(key);
+        if (this.flushing.containsKey(key)) {
+            this.discardedWhileFlushing.add(key);
+        }
+    }
+
+    /**
+     * Returns the number of keys with pending changes.
+     *
+     * @return the number of pending keys
+     */
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    /**
+     * Writes all pending changes on the calling thread.
+     *
+     * @throws RuntimeException if the writer fails; the changes stay pending
+     */
+    public void flush() {
+        this.flushLock.lock();
+        try {
+            Map<K, V> batch = startBatch();
+            for (K key : this.pending.keySet()) {
+                drain(key, batch);
+            }
+            write(batch);
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the pending change for one key on the calling thread, e.g. when a player disconnects.
+     *
+     * @param key the key
+     * @throws RuntimeException if the writer fails; the change stays pending
+     */
+    public void flush(K key) {
+        this.flushLock.lock();
+        try {
+            Map<K, V> batch = startBatch();
+            drain(key, batch);
+            write(batch);
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the buffer periodically. Failures are logged and retried on the next run.
+     *
+     * @param scheduler the scheduler
+     * @param interval  the time between flushes
+     * @return the scheduled task; cancel it and call {@link #flush()} on shutdown
+     */
+    public ScheduledTask scheduleFlush(TaskScheduler scheduler, Duration interval) {
+        return scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                Logger.getGlobal().log(Level.WARNING, "Failed to flush " + getPendingCount() + " pending writes, retrying", e);
+            }
+        }, interval, interval);
+    }
+
+    // Flush lock must be held. Publishes the batch before it is filled, so a change never leaves pending
+    // before it is visible in flight (to getPending and discard)
+    private Map<K, V> startBatch() {
+        this.discardedWhileFlushing.clear();
+        Map<K, V> batch = new ConcurrentHashMap<>();
+        this.flushing = batch;
+        return batch;
+    }
+
+    // Flush lock must be held
+    private void drain(K key, Map<K, V> batch) {
+        V change = this.pending.get(key);
+        while (change != null) {
+            batch.put(key, change);
+            if (this.pending.remove(key, change)) {
+                return;
+            }
+            // Merged with a newer change or discarded meanwhile
+            change = this.pending.get(key);
+        }
+        batch.remove(key);
+    }
+
+    // Flush lock must be held
+    private void write(Map<K, V> batch) {
+        try {
+            if (!batch.isEmpty()) {
+                this.writer.accept(batch);
+            }
+        } catch (RuntimeException e) {
+            // Put the batch back in front of anything enqueued while it was being written
+            batch.forEach((key, change) -> {
+                if (!this.discardedWhileFlushing.contains(key)) {
+                    this.pending.merge(key, change, (newer, older) -> this.merger.apply(older, newer));
+                }
+            });
+            throw e;
+        } finally {
+            this.flushing = Map.of();
+        }
+    }
+
+}
@@ -5,28 +5,69 @@ import lombok.SneakyThrows;
 import dev.spacetivity.tobi.hylib.database.api.DatabaseProvider;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnectionHandler;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnector;
-import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseType;
+import dev.spacetivity.tobi.hylib.database.api.connection.ReadPreference;
 import dev.spacetivity.tobi.hylib.database.api.connection.credentials.DatabaseCredentials;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Column;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.ColumnBinder;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.ColumnIndex;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.ParameterBinder;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.RowMapper;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.TableDefinition;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.Table;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.UuidUtils;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.BuiltQuery;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.InsertBuilder;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.PreparedQuery;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.SqlBuilder;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.UpsertBuilder;
+import dev.spacetivity.tobi.hylib.database.api.repository.Page;
 import dev.spacetivity.tobi.hylib.database.api.repository.Repository;
+import dev.spacetivity.tobi.hylib.database.api.transaction.TransactionContext;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Base for MariaDB repositories. Handles table creation, connections, CRUD; sync and async via {@link SqlBuilder}.
- * Subclasses must implement {@link #deserializeResultSet(ResultSet)} and {@link #insert(Object)}.
+ * Also runs against the embedded {@link dev.spacetivity.tobi.hylib.database.api.connection.DatabaseType#H2} database,
+ * which is used in MariaDB compatibility mode.
+ * Subclasses must implement {@link #deserializeResultSet(ResultSet)}, {@link #serialize(Object)} (used by the bulk
+ * and upsert writes such as {@link #insertAll(Collection)}) and {@link #insert(Object)}. Overriding
+ * {@link #bindDeserializer(ColumnIndex)} makes the generic queries read columns by index.
+ *
+ * <p>Reads are sent to a read replica if one is registered (see {@link ReadPreference}); writes always
+ * use the primary via {@link #writeConnection()}. Read methods have an overload taking a
+ * {@link ReadPreference} for reads that must observe preceding writes.
+ *
+ * <p>Async methods run on {@link #getExecutor()} via {@link #supplyAsync(Supplier, Duration)}; their futures
+ * always complete, also when the query fails, and a timed out or cancelled future aborts its statement.
+ *
+ * <p>Inside {@link dev.spacetivity.tobi.hylib.database.api.DatabaseApi#inTransaction inTransaction}, sync
+ * methods called on the transaction's thread use its connection and do not commit on their own.
  *
  * @param <T> the domain type
  * @see Repository
@@ -37,13 +78,54 @@ import java.util.concurrent.CompletableFuture;
  */
 public abstract class AbstractMariaDbRepository<T> implements Repository {
 
+    /**
+     * Number of rows fetched per network round trip by {@link #stream(BuiltQuery, RowMapper)}.
+     */
+    protected static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Maximum number of keys per {@code IN (...)} list used by {@link #getManySync(Column, Collection)}.
+     */
+    protected static final int MAX_IN_LIST_SIZE = 1000;
+
+    // Bounds the binder cache, as ad-hoc IN lists and multi-row inserts produce many distinct SQL strings
+    private static final int MAX_CACHED_BINDERS = 1024;
+    private static final ColumnBinder[] UNTYPED = new ColumnBinder[0];
+
     private final DatabaseConnectionHandler db;
     private final TableDefinition table;
+    private final Executor executor;
+    private final Duration asyncTimeout;
+
+    private final PreparedQuery selectAllQuery;
+    private final Map<Column, PreparedQuery> selectByKeyQueries = new ConcurrentHashMap<>();
+    private final Map<Column, PreparedQuery> existsByKeyQueries = new ConcurrentHashMap<>();
+    private final Map<Column, PreparedQuery> deleteByKeyQueries = new ConcurrentHashMap<>();
+    private final Map<String, ColumnBinder[]> bindersBySql = new ConcurrentHashMap<>();
 
     public AbstractMariaDbRepository(DatabaseConnectionHandler db, TableDefinition table) {
+        this(db, table, null, null);
+    }
+
+    /**
+     * Creates a repository that runs its async operations on the given executor.
+     *
+     * @param db           the connection handler
+     * @param table        the table definition; the table is created if it does not exist
+     * @param executor     the executor for async operations, or null to use
+     *                     {@link dev.spacetivity.tobi.hylib.database.api.DatabaseApi#getExecutorService()}
+     * @param asyncTimeout the default timeout of async operations, or null for no timeout
+     */
+    public AbstractMariaDbRepository(DatabaseConnectionHandler db, TableDefinition table, Executor executor, Duration asyncTimeout) {
         this.db = db;
         this.table = table;
+        this.executor = executor;
+        this.asyncTimeout = asyncTimeout;
         this.table.generate();
+        // Not via the overridable getColumns()/getTable(): subclasses are not initialized yet
+        this.selectAllQuery = PreparedQuery.of(SqlBuilder.select(table.getTableFields().toArray(new Column[0]))
+                .from(table.getTable())
+                .build());
     }
 
     /**
@@ -64,9 +146,49 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
         return table.getTableFields();
     }
 
-    @SneakyThrows
+    /**
+     * Returns a connection for reads, taken from a read replica if one is registered.
+     *
+     * @return a pooled connection that must be closed after use
+     * @see #readConnection(ReadPreference)
+     */
     protected Connection readConnection() {
-        DatabaseConnector<HikariDataSource, DatabaseCredentials> databaseConnector = this.db.getConnectorNullsafe(DatabaseType.MARIADB);
+        return readConnection(ReadPreference.REPLICA);
+    }
+
+    /**
+     * Returns a connection for reads with the given preference. Inside
+     * {@link dev.spacetivity.tobi.hylib.database.api.DatabaseApi#inTransaction inTransaction} the
+     * transaction's connection is returned instead, regardless of the preference.
+     *
+     * @param preference {@link ReadPreference#PRIMARY} to read from the primary (read-your-writes),
+     *                   {@link ReadPreference#REPLICA} to read from a replica
+     * @return a pooled connection that must be closed after use
+     */
+    @SneakyThrows
+    protected Connection readConnection(ReadPreference preference) {
+        Connection transactionConnection = TransactionContext.borrowConnection();
+        if (transactionConnection != null) {
+            return transactionConnection;
+        }
+        DatabaseConnector<HikariDataSource, DatabaseCredentials> databaseConnector = this.db.getReadConnector(this.db.getPrimaryType(), preference);
+        return databaseConnector.getSafeConnection().getConnection();
+    }
+
+    /**
+     * Returns a connection to the primary, used for all writes. Inside
+     * {@link dev.spacetivity.tobi.hylib.database.api.DatabaseApi#inTransaction inTransaction} the
+     * transaction's connection is returned instead.
+     *
+     * @return a pooled connection that must be closed after use
+     */
+    @SneakyThrows
+    protected Connection writeConnection() {
+        Connection transactionConnection = TransactionContext.borrowConnection();
+        if (transactionConnection != null) {
+            return transactionConnection;
+        }
+        DatabaseConnector<HikariDataSource, DatabaseCredentials> databaseConnector = this.db.getConnectorNullsafe(this.db.getPrimaryType());
         return databaseConnector.getSafeConnection().getConnection();
     }
 
@@ -79,12 +201,25 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @throws RuntimeException if a database error occurs
      */
     protected List<T> query(BuiltQuery query, RowMapper<T> mapper) {
+        return query(query, mapper, ReadPreference.REPLICA);
+    }
+
+    /**
+     * Executes a SELECT query with the given read preference and maps all rows with the given mapper.
+     *
+     * @param query      the built query (SQL and params)
+     * @param mapper     the mapper for ResultSet rows
+     * @param preference where to read from
+     * @return list of mapped objects (may be empty, never null)
+     * @throws RuntimeException if a database error occurs
+     */
+    @SuppressWarnings("try")
+    protected List<T> query(BuiltQuery query, RowMapper<T> mapper, ReadPreference preference) {
         List<T> results = new ArrayList<>();
-        try (Connection connection = readConnection();
-             PreparedStatement statement = connection.prepareStatement(query.sql())) {
-            for (int i = 0; i < query.params().size(); i++) {
-                statement.setObject(i + 1, query.params().get(i));
-            }
+        try (Connection connection = readConnection(preference);
+             PreparedStatement statement = connection.prepareStatement(query.sql());
+             InFlightStatement.Registration ignored = InFlightStatement.track(statement)) {
+            ParameterBinder.bind(statement, query.params(), binders(query));
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
                     results.add(mapper.map(resultSet));
@@ -96,6 +231,109 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
         return results;
     }
 
+    /**
+     * Executes a SELECT query and returns its rows as a lazily fetched {@link Stream}.
+     *
+     * <p>Unlike {@link #query(BuiltQuery, RowMapper)}, rows are not collected into a list. The driver
+     * fetches {@value #STREAM_FETCH_SIZE} rows at a time, so memory usage stays constant regardless
+     * of the table size. The connection stays open until the stream is closed, so the stream
+     * <strong>must</strong> be closed, ideally with try-with-resources.
+     *
+     * <h3>Example</h3>
+     *
+     * <pre>{@code
+     * BuiltQuery query = SqlBuilder.select(getColumns().toArray(new Column[0]))
+     *     .from(getTable())
+     *     .build();
+     *
+     * try (Stream<User> users = stream(query, this::deserializeResultSet)) {
+     *     users.filter(User::isActive).forEach(this::notify);
+     * }
+     * }</pre>
+     *
+     * @param query  the built query with SQL and parameters
+     * @param mapper the mapper to convert ResultSet rows to domain objects
+     * @return a sequential stream of mapped rows that must be closed after use
+     * @throws RuntimeException if a database access error occurs (also while iterating)
+     * @see #forEach(BuiltQuery, RowMapper, Consumer)
+     */
+    protected Stream<T> stream(BuiltQuery query, RowMapper<T> mapper) {
+        return stream(query, mapper, ReadPreference.REPLICA);
+    }
+
+    /**
+     * Executes a SELECT query with the given read preference and returns its rows as a lazily fetched
+     * {@link Stream}. See {@link #stream(BuiltQuery, RowMapper)}.
+     *
+     * @param query      the built query with SQL and parameters
+     * @param mapper     the mapper to convert ResultSet rows to domain objects
+     * @param preference where to read from
+     * @return a sequential stream of mapped rows that must be closed after use
+     * @throws RuntimeException if a database access error occurs (also while iterating)
+     */
+    protected Stream<T> stream(BuiltQuery query, RowMapper<T> mapper, ReadPreference preference) {
+        Connection connection = readConnection(preference);
+        try {
+            PreparedStatement statement = connection.prepareStatement(query.sql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            ParameterBinder.bind(statement, query.params(), binders(query));
+            InFlightStatement.Registration registration = InFlightStatement.track(statement);
+            ResultSet resultSet;
+            try {
+                resultSet = statement.executeQuery();
+            } catch (SQLException e) {
+                registration.close();
+                throw e;
+            }
+
+            Spliterator<T> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    try {
+                        if (!resultSet.next()) {
+                            return false;
+                        }
+                        action.accept(mapper.map(resultSet));
+                        return true;
+                    } catch (SQLException e) {
+                        throw new RuntimeException("Failed to read row: " + query.sql(), e);
+                    }
+                }
+            };
+
+            return StreamSupport.stream(rows, false).onClose(() -> {
+                try (connection; statement; registration; resultSet) {
+                    // closes result set, registration, statement and connection in that order
+                } catch (SQLException e) {
+                    throw new RuntimeException("Failed to close query: " + query.sql(), e);
+                }
+            });
+        } catch (SQLException e) {
+            try {
+                connection.close();
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new RuntimeException("Failed to execute query: " + query.sql(), e);
+        }
+    }
+
+    /**
+     * Executes a SELECT query and passes each mapped row to the consumer without collecting them.
+     *
+     * <p>Convenience for {@link #stream(BuiltQuery, RowMapper)} that closes the stream automatically.
+     *
+     * @param query    the built query with SQL and parameters
+     * @param mapper   the mapper to convert ResultSet rows to domain objects
+     * @param consumer receives each mapped row in result order
+     * @throws RuntimeException if a database access error occurs
+     */
+    protected void forEach(BuiltQuery query, RowMapper<T> mapper, Consumer<? super T> consumer) {
+        try (Stream<T> rows = stream(query, mapper)) {
+            rows.forEach(consumer);
+        }
+    }
+
     /**
      * Executes a query and maps the first result using the provided {@link RowMapper}.
      * 
@@ -119,11 +357,24 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @throws RuntimeException if a database access error occurs
      */
     protected Optional<T> queryOne(BuiltQuery query, RowMapper<T> mapper) {
-        try (Connection connection = readConnection();
-             PreparedStatement statement = connection.prepareStatement(query.sql())) {
-            for (int i = 0; i < query.params().size(); i++) {
-                statement.setObject(i + 1, query.params().get(i));
-            }
+        return queryOne(query, mapper, ReadPreference.REPLICA);
+    }
+
+    /**
+     * Executes a query with the given read preference and maps the first result.
+     *
+     * @param query      the built query with SQL and parameters
+     * @param mapper     the mapper to convert ResultSet row to domain object
+     * @param preference where to read from
+     * @return an {@link Optional} containing the mapped domain object, or empty if no results
+     * @throws RuntimeException if a database access error occurs
+     */
+    @SuppressWarnings("try")
+    protected Optional<T> queryOne(BuiltQuery query, RowMapper<T> mapper, ReadPreference preference) {
+        try (Connection connection = readConnection(preference);
+             PreparedStatement statement = connection.prepareStatement(query.sql());
+             InFlightStatement.Registration ignored = InFlightStatement.track(statement)) {
+            ParameterBinder.bind(statement, query.params(), binders(query));
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
                     return Optional.of(mapper.map(resultSet));
@@ -157,18 +408,100 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @return the number of affected rows
      * @throws RuntimeException if a database access error occurs
      */
+    @SuppressWarnings("try")
     protected int executeUpdate(BuiltQuery query) {
-        try (Connection connection = readConnection();
-             PreparedStatement statement = connection.prepareStatement(query.sql())) {
-            for (int i = 0; i < query.params().size(); i++) {
-                statement.setObject(i + 1, query.params().get(i));
-            }
+        try (Connection connection = writeConnection();
+             PreparedStatement statement = connection.prepareStatement(query.sql());
+             InFlightStatement.Registration ignored = InFlightStatement.track(statement)) {
+            ParameterBinder.bind(statement, query.params(), binders(query));
             return statement.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to execute update: " + query.sql(), e);
         }
     }
 
+    /**
+     * Executes multiple update queries (INSERT, UPDATE, DELETE) as JDBC batches on a single connection.
+     *
+     * <p>Queries with identical SQL are grouped into one {@link PreparedStatement} and sent via
+     * {@link PreparedStatement#executeBatch()}. Groups are executed in the order their SQL first appears
+     * in the list. All groups run inside one transaction; if any statement fails, the whole batch is
+     * rolled back. Inside {@link dev.spacetivity.tobi.hylib.database.api.DatabaseApi#inTransaction inTransaction}
+     * the batch joins the surrounding transaction instead.
+     *
+     * <h3>Example</h3>
+     *
+     * <pre>{@code
+     * List<BuiltQuery> queries = users.stream()
+     *     .map(user -> SqlBuilder.update(getTable())
+     *         .set(NAME_COL, user.getName())
+     *         .where(ID_COL, user.getId())
+     *         .build())
+     *     .toList();
+     *
+     * int[] rowsAffected = executeBatch(queries);
+     * }</pre>
+     *
+     * @param queries the built queries with SQL and parameters
+     * @return the update counts, in the same order as {@code queries}; entries may be
+     *         {@link java.sql.Statement#SUCCESS_NO_INFO} if the driver rewrote the batch
+     * @throws RuntimeException if a database access error occurs
+     */
+    protected int[] executeBatch(List<BuiltQuery> queries) {
+        int[] results = new int[queries.size()];
+        if (queries.isEmpty()) {
+            return results;
+        }
+
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            groups.computeIfAbsent(queries.get(i).sql(), sql -> new ArrayList<>()).add(i);
+        }
+
+        try (Connection connection = writeConnection()) {
+            if (TransactionContext.isActive()) {
+                // Part of the caller's transaction, which commits or rolls back as a whole
+                executeBatchGroups(connection, queries, groups, results);
+                return results;
+            }
+
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                executeBatchGroups(connection, queries, groups, results);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute batch of " + queries.size() + " queries", e);
+        }
+        return results;
+    }
+
+    @SuppressWarnings("try")
+    private void executeBatchGroups(Connection connection, List<BuiltQuery> queries, Map<String, List<Integer>> groups, int[] results) throws SQLException {
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            List<Integer> indices = group.getValue();
+            try (PreparedStatement statement = connection.prepareStatement(group.getKey());
+                 InFlightStatement.Registration ignored = InFlightStatement.track(statement)) {
+                // All queries of a group share their SQL, so also their binders
+                ColumnBinder[] binders = binders(queries.get(indices.get(0)));
+                for (int index : indices) {
+                    ParameterBinder.bind(statement, queries.get(index).params(), binders);
+                    statement.addBatch();
+                }
+                int[] counts = statement.executeBatch();
+                for (int i = 0; i < Math.min(counts.length, indices.size()); i++) {
+                    results[indices.get(i)] = counts[i];
+                }
+            }
+        }
+    }
+
     /**
      * Returns true if the query returns at least one row.
      *
@@ -177,11 +510,23 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @throws RuntimeException if a database error occurs
      */
     protected boolean existsQuery(BuiltQuery query) {
-        try (Connection connection = readConnection();
-             PreparedStatement statement = connection.prepareStatement(query.sql())) {
-            for (int i = 0; i < query.params().size(); i++) {
-                statement.setObject(i + 1, query.params().get(i));
-            }
+        return existsQuery(query, ReadPreference.REPLICA);
+    }
+
+    /**
+     * Returns true if the query returns at least one row, reading with the given preference.
+     *
+     * @param query      the built query
+     * @param preference where to read from
+     * @return true if at least one row exists
+     * @throws RuntimeException if a database error occurs
+     */
+    @SuppressWarnings("try")
+    protected boolean existsQuery(BuiltQuery query, ReadPreference preference) {
+        try (Connection connection = readConnection(preference);
+             PreparedStatement statement = connection.prepareStatement(query.sql());
+             InFlightStatement.Registration ignored = InFlightStatement.track(statement)) {
+            ParameterBinder.bind(statement, query.params(), binders(query));
             try (ResultSet resultSet = statement.executeQuery()) {
                 return resultSet.next();
             }
@@ -199,12 +544,97 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @throws NullPointerException if keyColumn is null
      */
     public boolean exists(Column keyColumn, Object key) {
-        BuiltQuery query = SqlBuilder.select(keyColumn)
+        return exists(keyColumn, key, ReadPreference.REPLICA);
+    }
+
+    /**
+     * Returns true if a record exists for the given key column and value, reading with the given preference.
+     *
+     * @param keyColumn  the column (e.g. primary key)
+     * @param key        the key value
+     * @param preference where to read from; use {@link ReadPreference#PRIMARY} right after a write
+     * @return true if a record exists
+     * @throws NullPointerException if keyColumn is null
+     */
+    public boolean exists(Column keyColumn, Object key, ReadPreference preference) {
+        PreparedQuery query = this.existsByKeyQueries.computeIfAbsent(keyColumn, column -> PreparedQuery.of(SqlBuilder.select(column)
                 .from(getTable())
-                .where(keyColumn, key)
+                .where(column, null)
                 .limit(1)
-                .build();
-        return existsQuery(query);
+                .build()));
+        return existsQuery(query.bind(key), preference);
+    }
+
+    /**
+     * Returns the executor that runs the async operations of this repository.
+     *
+     * @return the executor passed to the constructor, or the {@link DatabaseProvider} executor service
+     */
+    protected Executor getExecutor() {
+        return this.executor != null ? this.executor : DatabaseProvider.getApi().getExecutorService();
+    }
+
+    /**
+     * Runs a task on {@link #getExecutor()} with the repository's default timeout.
+     *
+     * @param <R>  the result type
+     * @param task the task, typically a sync repository call
+     * @return a future completed with the task's result or exception
+     * @see #supplyAsync(Supplier, Duration)
+     */
+    protected <R> CompletableFuture<R> supplyAsync(Supplier<R> task) {
+        return supplyAsync(task, this.asyncTimeout);
+    }
+
+    /**
+     * Runs a task on {@link #getExecutor()} and returns its result as a future.
+     *
+     * <p>The future always completes: with the task's result, with the exception the task threw, with a
+     * {@link java.util.concurrent.RejectedExecutionException} if the executor does not accept the task,
+     * or with a {@link java.util.concurrent.TimeoutException} once {@code timeout} elapses. If the future
+     * times out or is cancelled while the task is executing a statement, the statement is aborted via
+     * {@link java.sql.Statement#cancel()}, which releases its connection.
+     *
+     * <h3>Example</h3>
+     *
+     * <pre>{@code
+     * public CompletableFuture<Integer> countActiveAsync() {
+     *     return supplyAsync(this::countActiveSync, Duration.ofSeconds(2));
+     * }
+     * }</pre>
+     *
+     * @param <R>     the result type
+     * @param task    the task, typically a sync repository call
+     * @param timeout the maximum time until the future completes, or null for no timeout
+     * @return a future completed with the task's result or exception
+     * @throws NullPointerException if task is null
+     */
+    protected <R> CompletableFuture<R> supplyAsync(Supplier<R> task, Duration timeout) {
+        InFlightStatement inFlight = new InFlightStatement();
+        CompletableFuture<R> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                // The task may run inside another repository task on this thread; keep the outer holder bound after it
+                InFlightStatement previous = inFlight.bind();
+                try {
+                    return task.get();
+                } finally {
+                    inFlight.unbind(previous);
+                }
+            }, getExecutor());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (timeout != null) {
+            future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        future.whenComplete((result, throwable) -> {
+            if (throwable instanceof TimeoutException || throwable instanceof CancellationException) {
+                inFlight.cancel();
+            }
+        });
+        return future;
     }
 
     /**
@@ -216,9 +646,21 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @throws NullPointerException if keyColumn is null
      */
     public CompletableFuture<T> getAsync(Column keyColumn, Object key) {
-        CompletableFuture<T> asyncTask = new CompletableFuture<>();
-        DatabaseProvider.getApi().getExecutorService().execute(() -> asyncTask.complete(getSync(keyColumn, key)));
-        return asyncTask;
+        return supplyAsync(() -> getSync(keyColumn, key));
+    }
+
+    /**
+     * Returns a CompletableFuture with the record for the given key (async), failing with a
+     * {@link java.util.concurrent.TimeoutException} if the query does not finish within {@code timeout}.
+     *
+     * @param keyColumn the key column
+     * @param key       the key value
+     * @param timeout   the maximum time to wait; the query is cancelled when it elapses
+     * @return CompletableFuture with the mapped object, or null if not found
+     * @throws NullPointerException if keyColumn is null
+     */
+    public CompletableFuture<T> getAsync(Column keyColumn, Object key, Duration timeout) {
+        return supplyAsync(() -> getSync(keyColumn, key), timeout);
     }
 
     /**
@@ -227,9 +669,7 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @return CompletableFuture with list of mapped objects (never null)
      */
     public CompletableFuture<List<T>> getAllAsync() {
-        CompletableFuture<List<T>> asyncTask = new CompletableFuture<>();
-        DatabaseProvider.getApi().getExecutorService().execute(() -> asyncTask.complete(getAllSync()));
-        return asyncTask;
+        return supplyAsync(this::getAllSync);
     }
 
     /**
@@ -239,9 +679,18 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @return a CompletableFuture with the list of mapped domain objects
      */
     protected CompletableFuture<List<T>> queryAsync(BuiltQuery query, RowMapper<T> mapper) {
-        CompletableFuture<List<T>> asyncTask = new CompletableFuture<>();
-        DatabaseProvider.getApi().getExecutorService().execute(() -> asyncTask.complete(query(query, mapper)));
-        return asyncTask;
+        return supplyAsync(() -> query(query, mapper));
+    }
+
+    /**
+     * Executes a query asynchronously with a timeout and maps all results using the provided RowMapper.
+     * @param query the built query with SQL and parameters
+     * @param mapper the mapper to convert ResultSet rows to domain objects
+     * @param timeout the maximum time to wait; the query is cancelled when it elapses
+     * @return a CompletableFuture with the list of mapped domain objects
+     */
+    protected CompletableFuture<List<T>> queryAsync(BuiltQuery query, RowMapper<T> mapper, Duration timeout) {
+        return supplyAsync(() -> query(query, mapper), timeout);
     }
 
     /**
@@ -251,9 +700,18 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @return a CompletableFuture with an Optional containing the mapped domain object, or empty if no results
      */
     protected CompletableFuture<Optional<T>> queryOneAsync(BuiltQuery query, RowMapper<T> mapper) {
-        CompletableFuture<Optional<T>> asyncTask = new CompletableFuture<>();
-        DatabaseProvider.getApi().getExecutorService().execute(() -> asyncTask.complete(queryOne(query, mapper)));
-        return asyncTask;
+        return supplyAsync(() -> queryOne(query, mapper));
+    }
+
+    /**
+     * Executes a query asynchronously with a timeout and maps the first result using the provided RowMapper.
+     * @param query the built query with SQL and parameters
+     * @param mapper the mapper to convert ResultSet row to domain object
+     * @param timeout the maximum time to wait; the query is cancelled when it elapses
+     * @return a CompletableFuture with an Optional containing the mapped domain object, or empty if no results
+     */
+    protected CompletableFuture<Optional<T>> queryOneAsync(BuiltQuery query, RowMapper<T> mapper, Duration timeout) {
+        return supplyAsync(() -> queryOne(query, mapper), timeout);
     }
 
     /**
@@ -266,11 +724,126 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @throws RuntimeException if a database error occurs
      */
     public T getSync(Column keyColumn, Object key) {
-        BuiltQuery query = SqlBuilder.select(getColumns().toArray(new Column[0]))
+        return getSync(keyColumn, key, ReadPreference.REPLICA);
+    }
+
+    /**
+     * Returns a single record by key (sync), reading with the given preference.
+     *
+     * @param keyColumn  the key column
+     * @param key        the key value
+     * @param preference where to read from; use {@link ReadPreference#PRIMARY} right after a write
+     * @return the mapped object, or null if not found
+     * @throws NullPointerException if keyColumn is null
+     * @throws RuntimeException if a database error occurs
+     */
+    public T getSync(Column keyColumn, Object key, ReadPreference preference) {
+        PreparedQuery query = this.selectByKeyQueries.computeIfAbsent(keyColumn, column -> PreparedQuery.of(SqlBuilder.select(getColumns().toArray(new Column[0]))
                 .from(getTable())
-                .where(keyColumn, key)
-                .build();
-        return queryOne(query, this::deserializeResultSet).orElse(null);
+                .where(column, null)
+                .build()));
+        return queryOne(query.bind(key), RowMapper.indexed(this::bindDeserializer), preference).orElse(null);
+    }
+
+    /**
+     * Returns the records for multiple keys (sync). Uses {@code WHERE key IN (...)} so a group of records
+     * is loaded in one round trip; key sets larger than {@value #MAX_IN_LIST_SIZE} are split into
+     * several queries.
+     *
+     * <p>Keys are matched against the value read from {@code keyColumn}. {@code byte[]} keys (e.g. UUIDs
+     * from {@link dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.UuidUtils}) are compared by
+     * content, integral numbers by value.
+     *
+     * @param <K>       the key type
+     * @param keyColumn the key column (must be one of the table columns)
+     * @param keys      the keys to load
+     * @return map from requested key to record in key order; keys without a record are absent (never null)
+     * @throws NullPointerException if keyColumn or keys is null
+     * @throws RuntimeException if a database error occurs
+     */
+    public <K> Map<K, T> getManySync(Column keyColumn, Collection<K> keys) {
+        Map<Object, K> requested = new LinkedHashMap<>();
+        for (K key : keys) {
+            requested.putIfAbsent(lookupKey(key), key);
+        }
+
+        Map<Object, T> found = new LinkedHashMap<>();
+        List<K> distinctKeys = new ArrayList<>(requested.values());
+        for (int from = 0; from < distinctKeys.size(); from += MAX_IN_LIST_SIZE) {
+            List<K> chunk = distinctKeys.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinctKeys.size()));
+            BuiltQuery query = SqlBuilder.select(getColumns().toArray(new Column[0]))
+                    .from(getTable())
+                    .whereIn(keyColumn, chunk)
+                    .build();
+
+            List<Object> rowKeys = new ArrayList<>(chunk.size());
+            List<T> rows = query(query, RowMapper.indexed(columns -> {
+                int keyIndex = columns.indexOf(keyColumn);
+                RowMapper<T> deserializer = bindDeserializer(columns);
+                return resultSet -> {
+                    rowKeys.add(lookupKey(resultSet.getObject(keyIndex)));
+                    return deserializer.map(resultSet);
+                };
+            }));
+            for (int i = 0; i < rows.size(); i++) {
+                found.put(rowKeys.get(i), rows.get(i));
+            }
+        }
+
+        Map<K, T> results = new LinkedHashMap<>();
+        requested.forEach((lookupKey, key) -> {
+            T value = found.get(lookupKey);
+            if (value != null) {
+                results.put(key, value);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Returns a CompletableFuture with the records for multiple keys (async).
+     *
+     * @param <K>       the key type
+     * @param keyColumn the key column
+     * @param keys      the keys to load
+     * @return CompletableFuture with a map from requested key to record (never null)
+     * @see #getManySync(Column, Collection)
+     */
+    public <K> CompletableFuture<Map<K, T>> getManyAsync(Column keyColumn, Collection<K> keys) {
+        return supplyAsync(() -> getManySync(keyColumn, keys));
+    }
+
+    /**
+     * Resolves the parameter binders of a query from the column types of this table, once per SQL string.
+     *
+     * @return one binder per parameter, or null to bind by Java type
+     */
+    private ColumnBinder[] binders(BuiltQuery query) {
+        if (query.paramColumns() == null) {
+            return null;
+        }
+        ColumnBinder[] binders = this.bindersBySql.get(query.sql());
+        if (binders == null) {
+            ColumnBinder[] resolved = this.table.resolveBinders(query.paramColumns());
+            binders = resolved != null ? resolved : UNTYPED;
+            if (this.bindersBySql.size() < MAX_CACHED_BINDERS) {
+                this.bindersBySql.putIfAbsent(query.sql(), binders);
+            }
+        }
+        return binders != UNTYPED ? binders : null;
+    }
+
+    private static Object lookupKey(Object key) {
+        if (key instanceof byte[] bytes) {
+            return ByteBuffer.wrap(bytes);
+        }
+        if (key instanceof UUID uuid) {
+            return ByteBuffer.wrap(UuidUtils.uuidToBytes(uuid));
+        }
+        if (key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return ((Number) key).longValue();
+        }
+        return key;
     }
 
     /**
@@ -280,10 +853,88 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @throws RuntimeException if a database error occurs
      */
     public List<T> getAllSync() {
+        return query(this.selectAllQuery.bind(), RowMapper.indexed(this::bindDeserializer));
+    }
+
+    /**
+     * Returns one page of records ordered by the key column, using keyset (seek) pagination (sync).
+     *
+     * <p>Selects up to {@code pageSize} rows whose key is greater than {@code afterKey}. Because no
+     * OFFSET is used, deep pages cost the same as the first page if the key column is indexed.
+     * The key column must be unique and part of the table columns.
+     *
+     * @param keyColumn the unique, indexed column to paginate on (e.g. the primary key)
+     * @param afterKey  the {@link Page#nextKey()} of the previous page, or {@code null} for the first page
+     * @param pageSize  the maximum number of records per page (must be positive)
+     * @return the page with its continuation key, never null
+     * @throws IllegalArgumentException if pageSize is not positive
+     * @throws RuntimeException if a database error occurs
+     */
+    public Page<T> getPage(Column keyColumn, Object afterKey, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
         BuiltQuery query = SqlBuilder.select(getColumns().toArray(new Column[0]))
                 .from(getTable())
+                .after(keyColumn, afterKey)
+                .pageSize(pageSize + 1) // one extra row tells us whether another page follows
                 .build();
-        return query(query, this::deserializeResultSet);
+
+        List<Object> keys = new ArrayList<>(pageSize + 1);
+        List<T> rows = query(query, RowMapper.indexed(columns -> {
+            int keyIndex = columns.indexOf(keyColumn);
+            RowMapper<T> deserializer = bindDeserializer(columns);
+            return resultSet -> {
+                keys.add(resultSet.getObject(keyIndex));
+                return deserializer.map(resultSet);
+            };
+        }));
+
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+        return new Page<>(new ArrayList<>(rows.subList(0, pageSize)), keys.get(pageSize - 1));
+    }
+
+    /**
+     * Returns one page of records ordered by the key column (async).
+     *
+     * @param keyColumn the unique, indexed column to paginate on
+     * @param afterKey  the {@link Page#nextKey()} of the previous page, or {@code null} for the first page
+     * @param pageSize  the maximum number of records per page (must be positive)
+     * @return CompletableFuture with the page, never null
+     * @see #getPage(Column, Object, int)
+     */
+    public CompletableFuture<Page<T>> getPageAsync(Column keyColumn, Object afterKey, int pageSize) {
+        return supplyAsync(() -> getPage(keyColumn, afterKey, pageSize));
+    }
+
+    /**
+     * Returns all records from the table as a lazily fetched stream. Maps each row with
+     * {@link #deserializeResultSet(ResultSet)}. The stream must be closed after use.
+     *
+     * @return a stream of mapped objects that must be closed after use
+     * @throws RuntimeException if a database error occurs
+     * @see #stream(BuiltQuery, RowMapper)
+     */
+    public Stream<T> streamAll() {
+        return stream(this.selectAllQuery.bind(), RowMapper.indexed(this::bindDeserializer));
+    }
+
+    /**
+     * Passes every record of the table to the consumer (async) without loading all records into memory.
+     *
+     * @param consumer receives each mapped object; called on the executor thread
+     * @return CompletableFuture that completes once all records have been processed
+     * @throws NullPointerException if consumer is null
+     */
+    public CompletableFuture<Void> forEachAllAsync(Consumer<? super T> consumer) {
+        return supplyAsync(() -> {
+            try (Stream<T> rows = streamAll()) {
+                rows.forEach(consumer);
+            }
+            return null;
+        });
     }
 
     /**
@@ -295,12 +946,106 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      * @throws RuntimeException if a database error occurs
      */
     public void delete(Column keyColumn, Object key) {
-        BuiltQuery query = SqlBuilder.deleteFrom(getTable())
-                .where(keyColumn, key)
-                .build();
-        executeUpdate(query);
+        PreparedQuery query = this.deleteByKeyQueries.computeIfAbsent(keyColumn, column -> PreparedQuery.of(SqlBuilder.deleteFrom(getTable())
+                .where(column, null)
+                .build()));
+        executeUpdate(query.bind(key));
+    }
+
+
+    /**
+     * Inserts multiple records in a single batch. Values are converted via {@link #serialize(Object)} and
+     * written as multi-row INSERT statements (see {@link InsertBuilder#buildChunks()}), which are executed
+     * with {@link #executeBatch(List)}.
+     *
+     * @param values the domain objects to insert
+     * @throws NullPointerException if values is null
+     * @throws RuntimeException if a database error occurs (the whole batch is rolled back)
+     */
+    public void insertAll(Collection<T> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        InsertBuilder builder = null;
+        for (T value : values) {
+            Map<Column, Object> row = serialize(value);
+            if (builder == null) {
+                builder = SqlBuilder.insertInto(getTable()).columns(row.keySet().toArray(new Column[0]));
+            }
+            builder.row(row.values().toArray());
+        }
+        executeBatch(builder.buildChunks());
+    }
+
+    /**
+     * Inserts the record, or updates it if a record with the same primary key already exists.
+     *
+     * <p>Executes a single {@code INSERT ... ON DUPLICATE KEY UPDATE} statement built from
+     * {@link #serialize(Object)}. Primary key columns are only written on insert; all other
+     * columns are overwritten. Unlike a read followed by {@link #insert(Object)}, this is one
+     * round trip and safe if several servers write the same record concurrently.
+     *
+     * @param value the domain object to save
+     * @throws RuntimeException if a database error occurs
+     * @see #save(Object, Collection)
+     */
+    public void save(T value) {
+        save(value, null);
+    }
+
+    /**
+     * Inserts the record, or updates only the given columns if a record with the same primary key
+     * already exists.
+     *
+     * <p>All other columns are insert-only: they are written when the record is created and left
+     * untouched otherwise. Use this when the caller may not know the stored values, e.g. after a read
+     * from a lagging replica missed the record, so defaults never overwrite existing data.
+     *
+     * <h3>Example</h3>
+     *
+     * <pre>{@code
+     * // Creates the user with the default settings, or only refreshes the name of an existing one
+     * save(new User(id, name), List.of(NAME_COL));
+     * }</pre>
+     *
+     * @param value         the domain object to save
+     * @param updateColumns the columns to overwrite on an existing record, or null for all non-key columns
+     * @throws RuntimeException if a database error occurs
+     */
+    public void save(T value, Collection<Column> updateColumns) {
+        List<Column> primaryKeys = table.getPrimaryKeyColumns();
+        UpsertBuilder builder = SqlBuilder.upsertInto(getTable());
+        serialize(value).forEach((column, columnValue) -> {
+            boolean update = updateColumns != null ? updateColumns.contains(column) : !primaryKeys.contains(column);
+            if (update) {
+                builder.value(column, columnValue);
+            } else {
+                builder.insertOnly(column, columnValue);
+            }
+        });
+        executeUpdate(builder.build());
+    }
+
+    /**
+     * Builds an INSERT query for the given value from {@link #serialize(Object)}.
+     *
+     * @param value the domain object
+     * @return the INSERT query
+     */
+    protected BuiltQuery buildInsert(T value) {
+        InsertBuilder builder = SqlBuilder.insertInto(getTable());
+        serialize(value).forEach(builder::value);
+        return builder.build();
     }
 
+    /**
+     * Converts a domain object into its column values (counterpart to {@link #deserializeResultSet(ResultSet)}).
+     * Used by the bulk and upsert writes such as {@link #insertAll(Collection)} and {@link #save(Object)}.
+     *
+     * @param value the domain object
+     * @return the column values in insertion order, never null
+     */
+    protected abstract Map<Column, Object> serialize(T value);
 
     /**
      * Maps the current ResultSet row to a domain object. Cursor is at the current row.
@@ -311,6 +1056,30 @@ public abstract class AbstractMariaDbRepository<T> implements Repository {
      */
     public abstract T deserializeResultSet(ResultSet resultSet);
 
+    /**
+     * Returns the mapper for the rows of one result set, reading columns by their resolved position.
+     *
+     * <p>Used by the generic queries of this class ({@link #getSync(Column, Object)}, {@link #getAllSync()},
+     * {@link #streamAll()}, ...), which call it once per result set. The default implementation maps every
+     * row with {@link #deserializeResultSet(ResultSet)}. Override it to look up the column positions once
+     * and read rows with {@code resultSet.getXxx(int)}, avoiding a by-name lookup per column and row:
+     *
+     * <pre>{@code
+     * @Override
+     * public RowMapper<User> bindDeserializer(ColumnIndex columns) {
+     *     int id = columns.indexOf(ID_COL);
+     *     int name = columns.indexOf(NAME_COL);
+     *     return resultSet -> new User(resultSet.getInt(id), resultSet.getString(name));
+     * }
+     * }</pre>
+     *
+     * @param columns the resolved column positions of the result set
+     * @return the mapper for the rows of this result set
+     */
+    public RowMapper<T> bindDeserializer(ColumnIndex columns) {
+        return this::deserializeResultSet;
+    }
+
     /**
      * Inserts a new record. Subclasses build and execute an INSERT query (e.g. via SqlBuilder).
      *
@@ -0,0 +1,120 @@
+package dev.spacetivity.tobi.hylib.database.api.repository.impl;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the statement an async repository task is currently executing, so the task's future can abort
+ * it via {@link Statement#cancel()} when it times out or is cancelled.
+ *
+ * <p>The task binds a holder to its thread with {@link #bind()}, restoring the previous one afterwards; the repository registers each statement
+ * via {@link #track(Statement)} and unregisters it when the statement completes. A statement is never
+ * cancelled after it was unregistered, since its connection may already serve another caller.
+ */
+final class InFlightStatement {
+
+    private static final ThreadLocal<InFlightStatement> CURRENT = new ThreadLocal<>();
+
+    private static final Registration NO_REGISTRATION = () -> {
+    };
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Statement statement;
+    private boolean cancelled;
+
+    /**
+     * Binds this holder to the current thread until {@link #unbind(InFlightStatement)} is called.
+     *
+     * @return the holder that was bound before, e.g. of an outer repository call on the same thread, or null
+     */
+    InFlightStatement bind() {
+        InFlightStatement previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Removes this holder from the current thread and restores the one that was bound before.
+     *
+     * @param previous the holder returned by {@link #bind()}
+     */
+    void unbind(InFlightStatement previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Cancels the tracked statement, and every statement tracked later on.
+     */
+    void cancel() {
+        this.lock.lock();
+        try {
+            this.cancelled = true;
+            cancelStatement();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Registers a statement with the holder bound to the current thread, if any. If the holder was
+     * already cancelled, the statement is cancelled right away.
+     *
+     * @param statement the statement about to be executed
+     * @return the registration, to be closed once the statement has completed
+     */
+    static Registration track(Statement statement) {
+        InFlightStatement holder = CURRENT.get();
+        if (holder == null) {
+            return NO_REGISTRATION;
+        }
+
+        holder.lock.lock();
+        try {
+            holder.statement = statement;
+            if (holder.cancelled) {
+                holder.cancelStatement();
+            }
+        } finally {
+            holder.lock.unlock();
+        }
+
+        return () -> {
+            holder.lock.lock();
+            try {
+                if (holder.statement == statement) {
+                    holder.statement = null;
+                }
+            } finally {
+                holder.lock.unlock();
+            }
+        };
+    }
+
+    private void cancelStatement() {
+        if (this.statement == null) {
+            return;
+        }
+        try {
+            this.statement.cancel();
+        } catch (SQLException ignored) {
+            // The statement completed or was closed concurrently; nothing left to abort
+        }
+    }
+
+    /**
+     * Handle returned by {@link #track(Statement)}; closing it unregisters the statement.
+     *
+     * <p>It is only ever closed, as a try-with-resources resource that the body does not reference,
+     * so the methods using it suppress javac's {@code try} lint.
+     */
+    interface Registration extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,27 @@
+package dev.spacetivity.tobi.hylib.database.api.scheduler;
+
+/**
+ * What a fixed-rate task does when it is due while its previous run is still executing.
+ *
+ * @see TaskScheduler#scheduleAtFixedRate(Runnable, java.time.Duration, java.time.Duration, OverlapPolicy)
+ * @since 1.0
+ */
+public enum OverlapPolicy {
+
+    /**
+     * Drops the due run. The task runs at most once at a time and catches up on the next period.
+     */
+    SKIP,
+
+    /**
+     * Starts the due run as soon as the previous one finishes. At most one run waits; further due runs
+     * are dropped, so a slow task cannot pile up a backlog.
+     */
+    QUEUE,
+
+    /**
+     * Starts every due run right away, even if previous runs are still executing.
+     */
+    ALLOW_CONCURRENT
+
+}
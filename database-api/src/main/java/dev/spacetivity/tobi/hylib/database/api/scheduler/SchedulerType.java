@@ -0,0 +1,22 @@
+package dev.spacetivity.tobi.hylib.database.api.scheduler;
+
+/**
+ * Implementation behind {@link dev.spacetivity.tobi.hylib.database.api.DatabaseApi#getScheduler()}.
+ *
+ * @see TaskScheduler
+ * @since 1.0
+ */
+public enum SchedulerType {
+
+    /**
+     * Delay queue on a scheduled thread pool. Exact timing; each schedule and cancel is O(log n).
+     */
+    DEFAULT,
+
+    /**
+     * Hashed hierarchical timing wheel. Schedule and cancel are O(1), at the cost of firing up to one tick
+     * late. Suited for large numbers of short timeouts, such as per-player cooldowns.
+     */
+    TIMING_WHEEL
+
+}
@@ -0,0 +1,40 @@
+package dev.spacetivity.tobi.hylib.database.api.scheduler;
+
+import dev.spacetivity.tobi.hylib.database.api.connection.LatencyHistogram;
+
+/**
+ * Point-in-time execution statistics of a scheduled task.
+ *
+ * <p>A growing {@code schedulingLag} means runs start later than planned, usually because the worker
+ * executor is saturated. {@code skippedRuns > 0} on a fixed-rate task means its runs take longer than
+ * its period.
+ *
+ * <h3>Usage Example</h3>
+ *
+ * <pre>{@code
+ * ScheduledTask task = scheduler.scheduleAtFixedRate(this::saveAll, Duration.ZERO, Duration.ofMinutes(1), OverlapPolicy.SKIP);
+ *
+ * TaskMetrics metrics = scheduler.getTaskMetrics(task.getId());
+ * if (metrics != null && metrics.executionTime().p99Micros() > 60_000_000) {
+ *     logger.warn("saveAll overruns its period, skipped " + metrics.skippedRuns() + " runs");
+ * }
+ * }</pre>
+ *
+ * @param taskId         the task ID
+ * @param runCount       runs that completed, normally or exceptionally
+ * @param exceptionCount runs that threw an exception
+ * @param skippedRuns    due runs that were dropped by the {@link OverlapPolicy} or rejected by the worker
+ * @param activeRuns     runs executing right now
+ * @param schedulingLag  time from the planned start of a run to its actual start
+ * @param executionTime  time a run took
+ * @see TaskScheduler#getTaskMetrics(int)
+ * @since 1.0
+ */
+public record TaskMetrics(int taskId,
+                          long runCount,
+                          long exceptionCount,
+                          long skippedRuns,
+                          int activeRuns,
+                          LatencyHistogram.Snapshot schedulingLag,
+                          LatencyHistogram.Snapshot executionTime) {
+}
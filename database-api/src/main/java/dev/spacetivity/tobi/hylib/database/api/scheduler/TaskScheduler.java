@@ -58,8 +58,9 @@ public interface TaskScheduler {
      * repeatedly at the specified period. The task remains in the scheduler until
      * explicitly cancelled via {@link ScheduledTask#cancel()}.</p>
      * 
-     * <p>Note: If a task execution takes longer than the period, subsequent executions
-     * may be delayed. The scheduler does not guarantee concurrent execution of the same task.</p>
+     * <p>Note: If a task execution takes longer than the period, the next execution starts while the
+     * previous one is still running ({@link OverlapPolicy#ALLOW_CONCURRENT}). Use
+     * {@link #scheduleAtFixedRate(Runnable, Duration, Duration, OverlapPolicy)} to prevent this.</p>
      * 
      * @param task the task to execute, must not be null
      * @param initialDelay the delay before the first execution, must not be null
@@ -67,7 +68,29 @@ public interface TaskScheduler {
      * @return a ScheduledTask that can be used to cancel the task
      * @throws NullPointerException if task, initialDelay, or period is null
      */
-    ScheduledTask scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period);
+    default ScheduledTask scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period) {
+        return scheduleAtFixedRate(task, initialDelay, period, OverlapPolicy.ALLOW_CONCURRENT);
+    }
+
+    /**
+     * Schedules a task to be executed repeatedly at a fixed rate, with a policy for runs that are due
+     * while the previous run is still executing.
+     * 
+     * <p>Example usage:
+     * <pre>{@code
+     * // A slow save never runs twice at once; missed periods are dropped
+     * scheduler.scheduleAtFixedRate(this::saveAll, Duration.ZERO, Duration.ofMinutes(1), OverlapPolicy.SKIP);
+     * }</pre>
+     * 
+     * @param task the task to execute, must not be null
+     * @param initialDelay the delay before the first execution, must not be null
+     * @param period the period between executions, must not be null
+     * @param overlapPolicy what to do with a run that is due while the previous one is executing, must not be null
+     * @return a ScheduledTask that can be used to cancel the task
+     * @throws NullPointerException if task, initialDelay, period, or overlapPolicy is null
+     * @see OverlapPolicy
+     */
+    ScheduledTask scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period, OverlapPolicy overlapPolicy);
 
     /**
      * Schedules a task to be executed repeatedly with a fixed delay between the end of one
@@ -170,6 +193,19 @@ public interface TaskScheduler {
      */
     Duration getRemainingDelay(int id);
 
+    /**
+     * Returns the execution statistics of a scheduled task.
+     * 
+     * <p>Statistics are kept as long as the task can be retrieved via {@link #getTask(int)}, except for
+     * tasks scheduled via {@link #schedule(Runnable, Duration)}, whose statistics are dropped once their
+     * single run has finished.</p>
+     * 
+     * @param id the task ID
+     * @return the statistics, or null if the task does not exist or was a one-shot task that has run
+     * @see TaskMetrics
+     */
+    TaskMetrics getTaskMetrics(int id);
+
     /**
      * Cancels all scheduled tasks.
      * 
@@ -179,6 +215,50 @@ public interface TaskScheduler {
      */
     void cancelAll();
 
+    /**
+     * Adds a task to the group of an owner, such as a plugin or a player's UUID, so all tasks of the
+     * owner can be cancelled at once via {@link #cancelGroup(Object)} without tracking their IDs.
+     * 
+     * <p>A task belongs to at most one group; adding it to another group moves it. Tasks leave their
+     * group when they are cancelled or removed after execution, and one-shot tasks scheduled via
+     * {@link #schedule(Runnable, Duration)} once their run has finished.</p>
+     * 
+     * <p>Example usage:
+     * <pre>{@code
+     * // Per-player timer
+     * scheduler.addToGroup(player.getUuid(), scheduler.runTaskLater(() -> kickIfAfk(player), Duration.ofMinutes(5)));
+     * 
+     * // On disconnect
+     * scheduler.cancelGroup(player.getUuid());
+     * }</pre>
+     * 
+     * @param owner the group key; compared by {@code equals}, must not be null
+     * @param task the task, must not be null
+     * @return the given task, for chaining
+     * @throws NullPointerException if owner or task is null
+     */
+    ScheduledTask addToGroup(Object owner, ScheduledTask task);
+
+    /**
+     * Returns the tasks currently in the group of an owner.
+     * 
+     * <p>The returned set is a snapshot.</p>
+     * 
+     * @param owner the group key
+     * @return the tasks of the owner, never null
+     */
+    Set<ScheduledTask> getGroup(Object owner);
+
+    /**
+     * Cancels all tasks in the group of an owner and removes the group.
+     * 
+     * <p>Takes time proportional to the size of the group, not to the number of scheduled tasks.</p>
+     * 
+     * @param owner the group key
+     * @return the number of tasks that were cancelled
+     */
+    int cancelGroup(Object owner);
+
     /**
      * Schedules a task to be executed at a specific time of day, repeating at the specified interval.
      * 
@@ -0,0 +1,37 @@
+package dev.spacetivity.tobi.hylib.database.api.transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Work executed inside a transaction by {@link dev.spacetivity.tobi.hylib.database.api.DatabaseApi#inTransaction(TransactionCallback)}.
+ *
+ * <p>Repository calls made from the callback on the same thread join the transaction automatically;
+ * the connection parameter is only needed for hand-written JDBC.
+ *
+ * <h3>Example</h3>
+ *
+ * <pre>{@code
+ * api.inTransaction(connection -> {
+ *     playerRepository.delete(PLAYER_ID_COL, uuidBytes);
+ *     auditRepository.insert(new AuditEntry(uuid, "deleted"));
+ *     return null;
+ * });
+ * }</pre>
+ *
+ * @param <R> the result type
+ * @see TransactionContext
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface TransactionCallback<R> {
+
+    /**
+     * Executes the transactional work.
+     *
+     * @param connection the connection of the transaction; must not be closed, committed or rolled back
+     * @return the result passed back to the caller of {@code inTransaction}
+     * @throws SQLException if a database access error occurs; the transaction is rolled back
+     */
+    R doInTransaction(Connection connection) throws SQLException;
+}
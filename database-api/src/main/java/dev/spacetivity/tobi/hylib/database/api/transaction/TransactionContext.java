@@ -0,0 +1,90 @@
+package dev.spacetivity.tobi.hylib.database.api.transaction;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+/**
+ * Holds the connection of the transaction running on the current thread.
+ *
+ * <p>While a transaction is bound, repositories use its connection for all reads and writes on that
+ * thread instead of taking a new one from the pool, so a multi-step operation uses one connection and
+ * one commit. Work handed to another thread (e.g. async repository methods) does not join the
+ * transaction.
+ *
+ * <p>{@link #bind(Connection)} and {@link #unbind()} are called by the
+ * {@link dev.spacetivity.tobi.hylib.database.api.DatabaseApi#inTransaction(TransactionCallback)}
+ * implementation; application code only reads the context.
+ *
+ * @see TransactionCallback
+ * @since 1.0
+ */
+public final class TransactionContext {
+
+    private static final ThreadLocal<Connection> CURRENT = new ThreadLocal<>();
+
+    private TransactionContext() {
+    }
+
+    /**
+     * Returns whether a transaction is bound to the current thread.
+     *
+     * @return true inside {@code inTransaction}
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Returns the connection of the current thread's transaction.
+     *
+     * @return the connection, or null if no transaction is bound
+     */
+    public static Connection currentConnection() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns a view of the current transaction's connection whose {@link Connection#close()} does
+     * nothing, so it can be used in try-with-resources like a pooled connection.
+     *
+     * @return the non-closing connection, or null if no transaction is bound
+     */
+    public static Connection borrowConnection() {
+        Connection connection = CURRENT.get();
+        if (connection == null) {
+            return null;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Binds a transaction's connection to the current thread.
+     *
+     * @param connection the connection with auto-commit disabled
+     * @throws IllegalStateException if a transaction is already bound
+     */
+    public static void bind(Connection connection) {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("A transaction is already bound to this thread");
+        }
+        CURRENT.set(connection);
+    }
+
+    /**
+     * Removes the transaction's connection from the current thread.
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+}
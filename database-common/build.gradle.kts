@@ -1,5 +1,7 @@
 import org.gradle.api.file.DuplicatesStrategy
 import org.gradle.api.publish.maven.MavenPublication
+import org.gradle.api.tasks.JavaExec
+import org.gradle.api.tasks.SourceSet
 import org.gradle.jvm.tasks.Jar
 
 dependencies {
@@ -7,12 +9,26 @@ dependencies {
     
     implementation(libs.mariadb.jdbc)
     implementation(libs.hikaricp)
+    implementation(libs.h2)
     implementation(libs.gson)
     
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
 }
 
+// Main-style benchmarks, kept out of the published jar
+val bench: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets["main"].output + configurations["compileClasspath"]
+    runtimeClasspath += output + compileClasspath + configurations["runtimeClasspath"]
+}
+
+tasks.register<JavaExec>("bench") {
+    description = "Runs the scheduler benchmark"
+    group = "verification"
+    classpath = bench.runtimeClasspath
+    mainClass.set("dev.spacetivity.tobi.hylib.database.common.api.scheduler.TimingWheelBenchmark")
+}
+
 tasks.named<Jar>("jar") {
     from(
         configurations.runtimeClasspath.get().map { file ->
@@ -0,0 +1,85 @@
+package dev.spacetivity.tobi.hylib.database.common.api.scheduler;
+
+import dev.spacetivity.tobi.hylib.database.api.scheduler.ScheduledTask;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link TimingWheelTaskScheduler} with {@link DefaultTaskScheduler} on per-player timeouts.
+ *
+ * <p>Each round schedules many one-shot timeouts with random delays and cancels them all again, which is
+ * the common case for timeouts (most never fire), then fires a smaller batch of short timeouts. Run with
+ * {@code gradle :database-common:bench}; the first rounds are warm-up.
+ *
+ * <pre>{@code
+ * gradle :database-common:bench --args="100000 5"   // timeouts per round, rounds
+ * }</pre>
+ */
+public final class TimingWheelBenchmark {
+
+    private static final int FIRED_TIMEOUTS = 10_000;
+
+    private TimingWheelBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int timeouts = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        ExecutorService worker = Executors.newVirtualThreadPerTaskExecutor();
+        TimingWheelTaskScheduler timingWheel = new TimingWheelTaskScheduler(worker);
+        DefaultTaskScheduler heap = new DefaultTaskScheduler(1, worker);
+        try {
+            for (int round = 1; round <= rounds; round++) {
+                System.out.printf("Round %d of %d, %d timeouts%n", round, rounds, timeouts);
+                run("timing wheel", timingWheel, timeouts);
+                run("binary heap ", heap, timeouts);
+            }
+        } finally {
+            timingWheel.shutdown();
+            heap.shutdown();
+            worker.shutdown();
+        }
+    }
+
+    private static void run(String name, TaskScheduler scheduler, int timeouts) throws InterruptedException {
+        Runnable noop = () -> {
+        };
+        List<ScheduledTask> tasks = new ArrayList<>(timeouts);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < timeouts; i++) {
+            tasks.add(scheduler.schedule(noop, Duration.ofMillis(ThreadLocalRandom.current().nextLong(1_000, 60_000))));
+        }
+        long scheduled = System.nanoTime();
+        for (ScheduledTask task : tasks) {
+            scheduler.cancelTask(task.getId());
+        }
+        long cancelled = System.nanoTime();
+
+        CountDownLatch latch = new CountDownLatch(FIRED_TIMEOUTS);
+        long fireStart = System.nanoTime();
+        for (int i = 0; i < FIRED_TIMEOUTS; i++) {
+            scheduler.runTaskLater(latch::countDown, Duration.ofMillis(ThreadLocalRandom.current().nextLong(0, 50)));
+        }
+        boolean fired = latch.await(10, TimeUnit.SECONDS);
+        long fireEnd = System.nanoTime();
+
+        System.out.printf("  %s  schedule %6.0f ns/op  cancel %6.0f ns/op  fire %d in %d ms%s%n",
+                name,
+                (double) (scheduled - start) / timeouts,
+                (double) (cancelled - scheduled) / timeouts,
+                FIRED_TIMEOUTS,
+                TimeUnit.NANOSECONDS.toMillis(fireEnd - fireStart),
+                fired ? "" : " (timed out)");
+    }
+
+}
@@ -3,15 +3,32 @@ package dev.spacetivity.tobi.hylib.database.common;
 import dev.spacetivity.tobi.hylib.database.api.DatabaseApi;
 import dev.spacetivity.tobi.hylib.database.api.cache.CacheLoader;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnectionHandler;
+import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnector;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolMetrics;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolSettings;
+import dev.spacetivity.tobi.hylib.database.api.connection.ReplicaSelectionStrategy;
+import dev.spacetivity.tobi.hylib.database.api.connection.credentials.DatabaseCredentials;
+import dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl.H2Credentials;
 import dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl.MariaDbCredentials;
 import dev.spacetivity.tobi.hylib.database.api.repository.RepositoryLoader;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.SchedulerType;
 import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskScheduler;
+import dev.spacetivity.tobi.hylib.database.api.transaction.TransactionCallback;
+import dev.spacetivity.tobi.hylib.database.api.transaction.TransactionContext;
 import dev.spacetivity.tobi.hylib.database.common.api.cache.CacheLoaderImpl;
 import dev.spacetivity.tobi.hylib.database.common.api.connection.DatabaseConnectionHandlerImpl;
+import dev.spacetivity.tobi.hylib.database.common.api.executor.AdmissionControlledExecutorService;
 import dev.spacetivity.tobi.hylib.database.common.api.repository.RepositoryLoaderImpl;
 import dev.spacetivity.tobi.hylib.database.common.api.scheduler.DefaultTaskScheduler;
+import dev.spacetivity.tobi.hylib.database.common.api.scheduler.TimingWheelTaskScheduler;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -19,7 +36,17 @@ import java.util.concurrent.Future;
 @Getter
 public class DatabaseApiImpl implements DatabaseApi {
 
-    private final ExecutorService executorService;
+    public static final int DEFAULT_MAX_QUEUED_TASKS = 1000;
+
+    @Getter(AccessLevel.NONE)
+    private final ExecutorService virtualExecutor;
+    @Getter(AccessLevel.NONE)
+    private final int maxQueuedTasks;
+    @Getter(AccessLevel.NONE)
+    private final SchedulerType schedulerType;
+    @Getter(AccessLevel.NONE)
+    private final Duration schedulerTick;
+    private volatile ExecutorService executorService;
     
     private DatabaseConnectionHandler databaseConnectionHandler;
     private CacheLoader cacheLoader;
@@ -27,14 +54,103 @@ public class DatabaseApiImpl implements DatabaseApi {
     private TaskScheduler scheduler;
 
     public DatabaseApiImpl() {
-        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this(DEFAULT_MAX_QUEUED_TASKS);
+    }
+
+    public DatabaseApiImpl(int maxQueuedTasks) {
+        this(maxQueuedTasks, SchedulerType.DEFAULT, TimingWheelTaskScheduler.DEFAULT_TICK_DURATION);
+    }
+
+    /**
+     * @param maxQueuedTasks the maximum number of database tasks waiting for a connection
+     * @param schedulerType  the implementation of {@link #getScheduler()}
+     * @param schedulerTick  the tick resolution of the {@link SchedulerType#TIMING_WHEEL} scheduler; ignored otherwise
+     */
+    public DatabaseApiImpl(int maxQueuedTasks, SchedulerType schedulerType, Duration schedulerTick) {
+        this.virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        this.maxQueuedTasks = maxQueuedTasks;
+        this.schedulerType = schedulerType;
+        this.schedulerTick = schedulerTick;
+        this.executorService = this.virtualExecutor;
     }
 
     public void establishConnection(MariaDbCredentials mariaDbCredentials) {
-        this.databaseConnectionHandler = new DatabaseConnectionHandlerImpl(mariaDbCredentials);
+        establishConnection(mariaDbCredentials, List.of(), ReplicaSelectionStrategy.ROUND_ROBIN, PoolSettings.defaults());
+    }
+
+    public void establishConnection(MariaDbCredentials mariaDbCredentials, List<MariaDbCredentials> replicaCredentials, ReplicaSelectionStrategy replicaSelectionStrategy, PoolSettings poolSettings) {
+        this.databaseConnectionHandler = new DatabaseConnectionHandlerImpl(mariaDbCredentials, replicaCredentials, replicaSelectionStrategy, poolSettings);
+        initialize(poolSettings, 1 + replicaCredentials.size());
+    }
+
+    /**
+     * @param poolCount the number of connection pools, primary and replicas, each sized by {@code poolSettings}
+     */
+    private void initialize(PoolSettings poolSettings, int poolCount) {
+        // Admit as many database tasks as all pools together have connections; the rest queue or are rejected.
+        // Reads spread over the replicas, so counting only the primary would leave their connections idle;
+        // writes beyond the primary's pool wait in Hikari for at most its connection timeout.
+        int maxConcurrentTasks = Math.multiplyExact(poolSettings.maximumPoolSize(), poolCount);
+        this.executorService = new AdmissionControlledExecutorService(this.virtualExecutor, maxConcurrentTasks, this.maxQueuedTasks);
         this.cacheLoader = new CacheLoaderImpl();
         this.repositoryLoader = new RepositoryLoaderImpl();
-        this.scheduler = new DefaultTaskScheduler(1, this.executorService);
+        // Reconnecting replaces the scheduler; the old one must not keep its thread
+        shutdownScheduler();
+        this.scheduler = this.schedulerType == SchedulerType.TIMING_WHEEL
+                ? new TimingWheelTaskScheduler(this.virtualExecutor, this.schedulerTick)
+                : new DefaultTaskScheduler(1, this.virtualExecutor);
+    }
+
+    public void establishConnection(H2Credentials h2Credentials) {
+        establishConnection(h2Credentials, PoolSettings.defaults());
+    }
+
+    public void establishConnection(H2Credentials h2Credentials, PoolSettings poolSettings) {
+        this.databaseConnectionHandler = new DatabaseConnectionHandlerImpl(h2Credentials, poolSettings);
+        initialize(poolSettings, 1);
+    }
+
+    @Override
+    public PoolMetrics getPoolMetrics() {
+        if (this.databaseConnectionHandler == null) {
+            return null;
+        }
+        return this.databaseConnectionHandler.getConnectorNullsafe(this.databaseConnectionHandler.getPrimaryType()).getPoolMetrics();
+    }
+
+    @Override
+    public <R> R inTransaction(TransactionCallback<R> callback) {
+        Connection bound = TransactionContext.currentConnection();
+        if (bound != null) {
+            try {
+                return callback.doInTransaction(bound);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to execute transaction", e);
+            }
+        }
+
+        DatabaseConnector<HikariDataSource, DatabaseCredentials> connector = this.databaseConnectionHandler.getConnectorNullsafe(this.databaseConnectionHandler.getPrimaryType());
+        try (Connection connection = connector.getSafeConnection().getConnection()) {
+            connection.setAutoCommit(false);
+            TransactionContext.bind(connection);
+            try {
+                R result = callback.doInTransaction(connection);
+                connection.commit();
+                return result;
+            } catch (Throwable throwable) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackException) {
+                    throwable.addSuppressed(rollbackException);
+                }
+                throw throwable;
+            } finally {
+                TransactionContext.unbind();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute transaction", e);
+        }
     }
 
     @Override
@@ -42,4 +158,21 @@ public class DatabaseApiImpl implements DatabaseApi {
         return this.executorService.submit(runnable);
     }
 
+    /**
+     * Cancels all scheduled tasks and stops the scheduler's threads. Call this when the API is no longer used,
+     * after buffered writes have been flushed.
+     */
+    public void shutdown() {
+        shutdownScheduler();
+    }
+
+    private void shutdownScheduler() {
+        switch (this.scheduler) {
+            case TimingWheelTaskScheduler timingWheel -> timingWheel.shutdown();
+            case DefaultTaskScheduler defaultScheduler -> defaultScheduler.shutdown();
+            case null, default -> {
+            }
+        }
+    }
+
 }
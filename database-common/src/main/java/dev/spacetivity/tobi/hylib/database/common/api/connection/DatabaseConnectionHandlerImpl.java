@@ -1,25 +1,57 @@
 package dev.spacetivity.tobi.hylib.database.common.api.connection;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.SneakyThrows;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnectionHandler;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnector;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseType;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolSettings;
+import dev.spacetivity.tobi.hylib.database.api.connection.ReplicaSelectionStrategy;
 import dev.spacetivity.tobi.hylib.database.api.connection.credentials.DatabaseCredentials;
+import dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl.H2Credentials;
 import dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl.MariaDbCredentials;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.H2Connector;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.MariaDbConnector;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class DatabaseConnectionHandlerImpl implements DatabaseConnectionHandler {
 
     private final List<DatabaseConnector<?, ?>> connectors;
+    private final Map<DatabaseType, List<DatabaseConnector<?, ?>>> replicas;
+    private final AtomicInteger replicaCursor;
+    private final ReplicaSelectionStrategy replicaSelectionStrategy;
 
     public DatabaseConnectionHandlerImpl(MariaDbCredentials mariaDbCredentials) {
+        this(mariaDbCredentials, List.of(), ReplicaSelectionStrategy.ROUND_ROBIN, PoolSettings.defaults());
+    }
+
+    public DatabaseConnectionHandlerImpl(MariaDbCredentials mariaDbCredentials, List<MariaDbCredentials> replicaCredentials, ReplicaSelectionStrategy replicaSelectionStrategy, PoolSettings poolSettings) {
+        this.connectors = new ArrayList<>();
+        this.replicas = new ConcurrentHashMap<>();
+        this.replicaCursor = new AtomicInteger();
+        this.replicaSelectionStrategy = replicaSelectionStrategy;
+        // Not via the overridable register methods: this instance is not fully constructed yet
+        addConnector(new MariaDbConnector(poolSettings), mariaDbCredentials);
+        for (MariaDbCredentials credentials : replicaCredentials) {
+            addReplica(new MariaDbConnector(poolSettings), credentials);
+        }
+    }
+
+    public DatabaseConnectionHandlerImpl(H2Credentials h2Credentials, PoolSettings poolSettings) {
         this.connectors = new ArrayList<>();
-        registerConnector(new MariaDbConnector(), mariaDbCredentials);
+        this.replicas = new ConcurrentHashMap<>();
+        this.replicaCursor = new AtomicInteger();
+        this.replicaSelectionStrategy = ReplicaSelectionStrategy.ROUND_ROBIN;
+        addConnector(new H2Connector(poolSettings), h2Credentials);
     }
 
     @SneakyThrows
@@ -29,20 +61,98 @@ public class DatabaseConnectionHandlerImpl implements DatabaseConnectionHandler
                 .filter(currentConnector -> currentConnector.getType().equals(type))
                 .findFirst();
 
-        return (DatabaseConnector<T, C>) connector.orElseThrow(() -> new ClassNotFoundException("Connector not found!"));
+        return castConnector(connector.orElseThrow(() -> new ClassNotFoundException("Connector not found!")));
     }
 
     @Override
     public <T, C extends DatabaseCredentials> DatabaseConnector<T, C> getConnectorNullsafe(Class<T> clientClass, DatabaseType type) {
-        DatabaseConnector<Object, DatabaseCredentials> databaseConnector = getConnectorNullsafe(type);
-        return (DatabaseConnector<T, C>) databaseConnector;
+        return getConnectorNullsafe(type);
     }
 
     @Override
     public <T, C extends DatabaseCredentials> DatabaseConnector<T, C> registerConnector(DatabaseConnector<T, C> connector, DatabaseCredentials credentials) {
+        return addConnector(connector, credentials);
+    }
+
+    @Override
+    public DatabaseType getPrimaryType() {
+        if (this.connectors.isEmpty()) {
+            throw new IllegalStateException("No connector registered");
+        }
+        return this.connectors.get(0).getType();
+    }
+
+    @Override
+    public <T, C extends DatabaseCredentials> DatabaseConnector<T, C> registerReplica(DatabaseConnector<T, C> connector, DatabaseCredentials credentials) {
+        return addReplica(connector, credentials);
+    }
+
+    @Override
+    public <T, C extends DatabaseCredentials> DatabaseConnector<T, C> getReadConnector(DatabaseType type) {
+        List<DatabaseConnector<?, ?>> candidates = this.replicas.get(type);
+        if (candidates == null || candidates.isEmpty()) {
+            return getConnectorNullsafe(type);
+        }
+        if (candidates.size() == 1) {
+            return castConnector(candidates.get(0));
+        }
+
+        if (this.replicaSelectionStrategy == ReplicaSelectionStrategy.LEAST_ACTIVE_CONNECTIONS) {
+            DatabaseConnector<?, ?> leastActive = selectLeastActive(candidates);
+            if (leastActive != null) {
+                return castConnector(leastActive);
+            }
+        }
+
+        int index = Math.floorMod(this.replicaCursor.getAndIncrement(), candidates.size());
+        return castConnector(candidates.get(index));
+    }
+
+    private <T, C extends DatabaseCredentials> DatabaseConnector<T, C> addConnector(DatabaseConnector<T, C> connector, DatabaseCredentials credentials) {
         this.connectors.add(connector);
-        connector.establishConnection((C) credentials);
+        establish(connector, credentials);
+        return connector;
+    }
+
+    private <T, C extends DatabaseCredentials> DatabaseConnector<T, C> addReplica(DatabaseConnector<T, C> connector, DatabaseCredentials credentials) {
+        establish(connector, credentials);
+        this.replicas.computeIfAbsent(connector.getType(), type -> new CopyOnWriteArrayList<>()).add(connector);
         return connector;
     }
 
+    // The only unchecked casts: connectors are stored without their type arguments, and the caller
+    // picks client and credentials types matching the DatabaseType it asks for
+    @SuppressWarnings("unchecked")
+    private static <T, C extends DatabaseCredentials> DatabaseConnector<T, C> castConnector(DatabaseConnector<?, ?> connector) {
+        return (DatabaseConnector<T, C>) connector;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C extends DatabaseCredentials> void establish(DatabaseConnector<?, C> connector, DatabaseCredentials credentials) {
+        connector.establishConnection((C) credentials);
+    }
+
+    private DatabaseConnector<?, ?> selectLeastActive(List<DatabaseConnector<?, ?>> candidates) {
+        // Start at a rotating offset so idle replicas share the load instead of always picking the first
+        int offset = this.replicaCursor.getAndIncrement();
+        DatabaseConnector<?, ?> selected = null;
+        int selectedActive = Integer.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            DatabaseConnector<?, ?> candidate = candidates.get(Math.floorMod(offset + i, candidates.size()));
+            if (!(candidate.getClient() instanceof HikariDataSource dataSource)) {
+                return null;
+            }
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                return null;
+            }
+            int active = pool.getActiveConnections();
+            if (active < selectedActive) {
+                selected = candidate;
+                selectedActive = active;
+            }
+        }
+        return selected;
+    }
+
 }
@@ -0,0 +1,197 @@
+package dev.spacetivity.tobi.hylib.database.common.api.executor;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executor that limits how many tasks run at once and queues or rejects the rest.
+ *
+ * <p>At most {@code maxConcurrency} tasks run on the delegate at the same time; further tasks wait in a
+ * FIFO queue of {@code maxQueuedTasks} entries. When the queue is full, {@link #execute(Runnable)}
+ * throws {@link RejectedExecutionException} immediately. Sized to the connection pool, this keeps a
+ * burst of database work from piling up virtual threads that all block on the pool and then fail with
+ * connection timeouts.
+ *
+ * <p>{@link #shutdown()} stops accepting tasks, hands the queued tasks to the delegate and shuts it down.
+ */
+public class AdmissionControlledExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    @Getter
+    private final int maxConcurrency;
+    @Getter
+    private final int maxQueuedTasks;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private int runningTasks;
+    private boolean shutdown;
+
+    public AdmissionControlledExecutorService(ExecutorService delegate, int maxConcurrency, int maxQueuedTasks) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+        if (maxQueuedTasks < 0) {
+            throw new IllegalArgumentException("Max queued tasks cannot be negative");
+        }
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueuedTasks = maxQueuedTasks;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("Task cannot be null");
+        }
+
+        this.lock.lock();
+        try {
+            if (this.shutdown) {
+                throw new RejectedExecutionException("Executor has been shut down");
+            }
+            if (this.runningTasks < this.maxConcurrency) {
+                this.runningTasks++;
+                dispatch(command);
+                return;
+            }
+            if (this.queue.size() >= this.maxQueuedTasks) {
+                this.rejectedTasks.increment();
+                throw new RejectedExecutionException("Database executor saturated: " + this.runningTasks
+                        + " running, " + this.queue.size() + " queued");
+            }
+            this.queue.add(command);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Must be called with the lock held and a running slot reserved for the task
+    private void dispatch(Runnable command) {
+        try {
+            this.delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    onTaskFinished();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.runningTasks--;
+            throw e;
+        }
+    }
+
+    // Must be called with the lock held. A queued task was already accepted, so if the delegate rejects it
+    // (it was shut down underneath us) the task is cancelled instead of being lost with its future pending
+    private void dispatchQueued() {
+        Runnable command = this.queue.poll();
+        this.runningTasks++;
+        try {
+            dispatch(command);
+        } catch (RejectedExecutionException e) {
+            this.rejectedTasks.increment();
+            if (command instanceof Future<?> future) {
+                future.cancel(false);
+            }
+            Logger.getGlobal().log(Level.WARNING, "Failed to dispatch queued database task, delegate rejected it", e);
+        }
+    }
+
+    private void onTaskFinished() {
+        this.lock.lock();
+        try {
+            this.runningTasks--;
+            while (this.runningTasks < this.maxConcurrency && !this.queue.isEmpty()) {
+                dispatchQueued();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int getRunningTasks() {
+        this.lock.lock();
+        try {
+            return this.runningTasks;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int getQueuedTasks() {
+        this.lock.lock();
+        try {
+            return this.queue.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long getRejectedTasks() {
+        return this.rejectedTasks.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        this.lock.lock();
+        try {
+            this.shutdown = true;
+            while (!this.queue.isEmpty()) {
+                dispatchQueued();
+            }
+            this.delegate.shutdown();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.lock.lock();
+        try {
+            this.shutdown = true;
+            List<Runnable> pending = new ArrayList<>(this.queue);
+            this.queue.clear();
+            pending.addAll(this.delegate.shutdownNow());
+            return pending;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        this.lock.lock();
+        try {
+            return this.shutdown;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown() && this.delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.delegate.awaitTermination(timeout, unit);
+    }
+
+}
@@ -0,0 +1,102 @@
+package dev.spacetivity.tobi.hylib.database.common.api.registry;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe class-to-instance registry with memoized subtype lookups, shared by the cache and
+ * repository loaders.
+ *
+ * <p>{@link #resolve(Class)} returns the instance registered under exactly that class, or else the first
+ * registered instance whose class is a subtype of it. The result, including "not found", is memoized per
+ * class, so repeated lookups cost one volatile read and one hash lookup. Registrations are rare: each one
+ * publishes a new immutable snapshot with an empty memo.
+ *
+ * <p>A {@link ClassValue} is not used because it cannot be cleared as a whole when a registration changes
+ * the resolution of existing lookups.
+ *
+ * @param <T> the registered type
+ */
+public final class ClassRegistry<T> {
+
+    private static final Object NOT_FOUND = new Object();
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of());
+
+    /**
+     * Registers an instance under a class, replacing a previous registration of that class.
+     *
+     * @throws NullPointerException     if clazz or instance is null
+     * @throws IllegalArgumentException if instance is not an instance of clazz
+     */
+    public synchronized void register(Class<?> clazz, T instance) {
+        if (clazz == null || instance == null) {
+            throw new NullPointerException("Class and instance cannot be null");
+        }
+        if (!clazz.isInstance(instance)) {
+            throw new IllegalArgumentException(instance.getClass().getName() + " is not an instance of " + clazz.getName());
+        }
+        Map<Class<?>, T> entries = new LinkedHashMap<>(this.snapshot.entries);
+        entries.put(clazz, instance);
+        this.snapshot = new Snapshot(entries);
+    }
+
+    /**
+     * Returns the instance registered under the class or, failing that, under one of its subtypes.
+     *
+     * @return the instance, or null if none matches
+     */
+    public T resolve(Class<?> clazz) {
+        return this.snapshot.resolve(clazz);
+    }
+
+    /**
+     * Returns the registered instances in registration order (snapshot).
+     */
+    public List<T> values() {
+        return List.copyOf(this.snapshot.entries.values());
+    }
+
+    /**
+     * Returns the registrations by class in registration order (snapshot).
+     */
+    public Map<Class<?>, T> entries() {
+        return this.snapshot.entries;
+    }
+
+    private final class Snapshot {
+        private final Map<Class<?>, T> entries;
+        private final ConcurrentMap<Class<?>, Object> resolved = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<Class<?>, T> entries) {
+            this.entries = Collections.unmodifiableMap(entries);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T resolve(Class<?> clazz) {
+            Object result = this.resolved.get(clazz);
+            if (result == null) {
+                result = this.resolved.computeIfAbsent(clazz, this::scan);
+            }
+            return result == NOT_FOUND ? null : (T) result;
+        }
+
+        private Object scan(Class<?> clazz) {
+            T exact = this.entries.get(clazz);
+            if (exact != null) {
+                return exact;
+            }
+            for (Map.Entry<Class<?>, T> entry : this.entries.entrySet()) {
+                if (clazz.isAssignableFrom(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+            return NOT_FOUND;
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package dev.spacetivity.tobi.hylib.database.common.api.scheduler;
 
+import dev.spacetivity.tobi.hylib.database.api.scheduler.OverlapPolicy;
 import dev.spacetivity.tobi.hylib.database.api.scheduler.ScheduledTask;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskMetrics;
 import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskScheduler;
 
 import java.time.*;
@@ -8,6 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Default implementation of {@link TaskScheduler}.
@@ -17,6 +20,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  * the scheduler threads to remain available for scheduling while tasks execute
  * asynchronously on worker threads (typically virtual threads).</p>
  * 
+ * <p>Each run is measured (see {@link #getTaskMetrics(int)}); scheduling lag is taken from the planned
+ * start of the run, so it includes time spent waiting for a scheduler thread and for a worker.</p>
+ * 
  * @since 1.0
  */
 public class DefaultTaskScheduler implements TaskScheduler {
@@ -24,6 +30,8 @@ public class DefaultTaskScheduler implements TaskScheduler {
     private final AtomicInteger taskIdSeq = new AtomicInteger();
 
     private final ConcurrentMap<Integer, ScheduledFuture<?>> tasks = new  ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, TaskRunner> runners = new ConcurrentHashMap<>();
+    private final TaskGroups groups = new TaskGroups();
 
     private final ScheduledThreadPoolExecutor scheduler;
     private final ExecutorService worker;
@@ -37,12 +45,27 @@ public class DefaultTaskScheduler implements TaskScheduler {
         this.worker = worker;
     }
 
+    /**
+     * Cancels all tasks and stops the scheduler threads. Runs already handed to the worker are not interrupted;
+     * scheduling afterwards throws {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    public void shutdown() {
+        cancelAll();
+        this.scheduler.shutdownNow();
+    }
+
     @Override
     public ScheduledTask schedule(Runnable task, Duration delay) {
         int id = taskIdSeq.incrementAndGet();
+        TaskRunner runner = register(id, task, OverlapPolicy.ALLOW_CONCURRENT);
+        long plannedNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay.toMillis());
 
+        // The task stays retrievable, but its metrics and group membership end with the run
         ScheduledFuture<?> future = this.scheduler.schedule(
-          () -> worker.submit(task),
+          () -> runner.fire(worker, plannedNanos, () -> {
+              this.runners.remove(id, runner);
+              this.groups.remove(id);
+          }),
           delay.toMillis(),
           TimeUnit.MILLISECONDS
         );
@@ -65,11 +88,15 @@ public class DefaultTaskScheduler implements TaskScheduler {
     }
 
     @Override
-    public ScheduledTask scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period) {
+    public ScheduledTask scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period, OverlapPolicy overlapPolicy) {
         int id = this.taskIdSeq.incrementAndGet();
+        TaskRunner runner = register(id, task, overlapPolicy);
+        long periodNanos = TimeUnit.MILLISECONDS.toNanos(period.toMillis());
+        // Run k is planned at initialDelay + k * period; callbacks of one periodic task never overlap
+        AtomicLong plannedNanos = new AtomicLong(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelay.toMillis()));
 
         ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(
-                () -> this.worker.submit(task),
+                () -> runner.fire(this.worker, plannedNanos.getAndAdd(periodNanos)),
                 initialDelay.toMillis(),
                 period.toMillis(),
                 TimeUnit.MILLISECONDS
@@ -82,9 +109,15 @@ public class DefaultTaskScheduler implements TaskScheduler {
     @Override
     public ScheduledTask scheduleWithFixedDelay(Runnable task, Duration initialDelay, Duration delay) {
         int id = this.taskIdSeq.incrementAndGet();
+        TaskRunner runner = register(id, task, OverlapPolicy.ALLOW_CONCURRENT);
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(delay.toMillis());
+        AtomicLong plannedNanos = new AtomicLong(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelay.toMillis()));
 
         ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(
-                () -> this.worker.submit(task),
+                () -> {
+                    runner.fire(this.worker, plannedNanos.get());
+                    plannedNanos.set(System.nanoTime() + delayNanos);
+                },
                 initialDelay.toMillis(),
                 delay.toMillis(),
                 TimeUnit.MILLISECONDS
@@ -97,11 +130,15 @@ public class DefaultTaskScheduler implements TaskScheduler {
     @Override
     public ScheduledTask runTaskLater(Runnable task, Duration delay) {
         int id = taskIdSeq.incrementAndGet();
+        TaskRunner runner = register(id, task, OverlapPolicy.ALLOW_CONCURRENT);
+        long plannedNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay.toMillis());
 
         ScheduledFuture<?> future = this.scheduler.schedule(
                 () -> {
-                    worker.submit(task);
+                    runner.fire(worker, plannedNanos);
                     this.tasks.remove(id);
+                    this.runners.remove(id);
+                    this.groups.remove(id);
                 },
                 delay.toMillis(),
                 TimeUnit.MILLISECONDS
@@ -114,6 +151,8 @@ public class DefaultTaskScheduler implements TaskScheduler {
     @Override
     public boolean cancelTask(int id) {
         ScheduledFuture<?> future = this.tasks.remove(id);
+        this.runners.remove(id);
+        this.groups.remove(id);
         return future != null && future.cancel(false);
     }
 
@@ -123,6 +162,12 @@ public class DefaultTaskScheduler implements TaskScheduler {
         return future != null ? wrap(id, future) : null;
     }
 
+    @Override
+    public TaskMetrics getTaskMetrics(int id) {
+        TaskRunner runner = this.runners.get(id);
+        return runner != null ? runner.snapshot() : null;
+    }
+
     @Override
     public Set<ScheduledTask> getAllTasks() {
         Set<ScheduledTask> result = new HashSet<>(this.tasks.size());
@@ -149,11 +194,51 @@ public class DefaultTaskScheduler implements TaskScheduler {
     public void cancelAll() {
         this.tasks.values().forEach(future -> future.cancel(false));
         this.tasks.clear();
+        this.runners.clear();
+        this.groups.clear();
+    }
+
+    @Override
+    public ScheduledTask addToGroup(Object owner, ScheduledTask task) {
+        if (task == null) {
+            throw new NullPointerException("Task cannot be null");
+        }
+        this.groups.add(owner, task.getId());
+        // The task may have finished meanwhile and must not linger in the group; tasks that will
+        // still run are exactly those with a runner
+        if (!this.runners.containsKey(task.getId())) {
+            this.groups.remove(task.getId());
+        }
+        return task;
+    }
+
+    @Override
+    public Set<ScheduledTask> getGroup(Object owner) {
+        Set<ScheduledTask> result = new HashSet<>();
+        for (int id : this.groups.get(owner)) {
+            ScheduledTask task = getTask(id);
+            if (task != null) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int cancelGroup(Object owner) {
+        int cancelled = 0;
+        for (int id : this.groups.removeGroup(owner)) {
+            if (cancelTask(id)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
     }
 
     @Override
     public ScheduledTask scheduleAtTimeOfDay(LocalTime time, Period period, Runnable task) {
         int id = taskIdSeq.incrementAndGet();
+        TaskRunner runner = register(id, task, OverlapPolicy.ALLOW_CONCURRENT);
         
         // Calculate next execution time
         ZonedDateTime now = ZonedDateTime.now();
@@ -169,11 +254,12 @@ public class DefaultTaskScheduler implements TaskScheduler {
         // Create a self-rescheduling task
         Runnable reschedulingTask = new Runnable() {
             private ZonedDateTime nextRun = nextExecution;
+            private long plannedNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelay.toMillis());
             
             @Override
             public void run() {
                 // Execute the actual task
-                worker.submit(task);
+                runner.fire(worker, plannedNanos);
                 
                 // Schedule next execution
                 nextRun = nextRun.plus(period);
@@ -188,6 +274,7 @@ public class DefaultTaskScheduler implements TaskScheduler {
                 }
                 
                 Duration delayUntilNext = Duration.between(currentTime, nextRun);
+                plannedNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayUntilNext.toMillis());
                 
                 ScheduledFuture<?> future = scheduler.schedule(
                     this,
@@ -209,6 +296,12 @@ public class DefaultTaskScheduler implements TaskScheduler {
         return wrap(id, future);
     }
 
+    private TaskRunner register(int id, Runnable task, OverlapPolicy overlapPolicy) {
+        TaskRunner runner = new TaskRunner(id, task, overlapPolicy);
+        this.runners.put(id, runner);
+        return runner;
+    }
+
     private ScheduledTask wrap(int id, ScheduledFuture<?> future) {
         return new ScheduledTask() {
             @Override
@@ -0,0 +1,74 @@
+package dev.spacetivity.tobi.hylib.database.common.api.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of task IDs by owner, for {@code TaskScheduler.cancelGroup}. Shared by the scheduler
+ * implementations; callers remove tasks from it whenever they leave the scheduler.
+ */
+final class TaskGroups {
+
+    private final ConcurrentMap<Object, Set<Integer>> membersByOwner = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Object> ownerByTask = new ConcurrentHashMap<>();
+
+    void add(Object owner, int taskId) {
+        if (owner == null) {
+            throw new NullPointerException("Owner cannot be null");
+        }
+        Object[] previousOwner = new Object[1];
+        // Per-owner compute, so a concurrent removal cannot drop the set while we add to it. The owner is
+        // published last: a remove(taskId) that sees it also finds the member
+        this.membersByOwner.compute(owner, (key, members) -> {
+            Set<Integer> result = members != null ? members : ConcurrentHashMap.newKeySet();
+            result.add(taskId);
+            previousOwner[0] = this.ownerByTask.put(taskId, owner);
+            return result;
+        });
+        if (previousOwner[0] != null && !previousOwner[0].equals(owner)) {
+            removeMember(previousOwner[0], taskId);
+        }
+    }
+
+    void remove(int taskId) {
+        Object owner = this.ownerByTask.remove(taskId);
+        if (owner != null) {
+            removeMember(owner, taskId);
+        }
+    }
+
+    List<Integer> get(Object owner) {
+        Set<Integer> members = this.membersByOwner.get(owner);
+        return members != null ? List.copyOf(members) : List.of();
+    }
+
+    /**
+     * Removes the group and returns its task IDs.
+     */
+    List<Integer> removeGroup(Object owner) {
+        List<Integer> taskIds = new ArrayList<>();
+        // Under the per-owner compute, so a concurrent add to the same owner is not unlinked halfway
+        this.membersByOwner.computeIfPresent(owner, (key, members) -> {
+            taskIds.addAll(members);
+            taskIds.forEach(taskId -> this.ownerByTask.remove(taskId, owner));
+            return null;
+        });
+        return taskIds;
+    }
+
+    void clear() {
+        this.membersByOwner.clear();
+        this.ownerByTask.clear();
+    }
+
+    private void removeMember(Object owner, int taskId) {
+        this.membersByOwner.computeIfPresent(owner, (key, members) -> {
+            members.remove(taskId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+}
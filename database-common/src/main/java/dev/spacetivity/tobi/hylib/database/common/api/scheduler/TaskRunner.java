@@ -0,0 +1,167 @@
+package dev.spacetivity.tobi.hylib.database.common.api.scheduler;
+
+import dev.spacetivity.tobi.hylib.database.api.connection.LatencyHistogram;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.OverlapPolicy;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskMetrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs one scheduled task on the worker executor, applies its {@link OverlapPolicy} and records its
+ * {@link TaskMetrics}. Shared by the scheduler implementations.
+ */
+final class TaskRunner {
+
+    private static final int IDLE = 0;
+    private static final int RUNNING = 1;
+    private static final int RUNNING_QUEUED = 2;
+
+    private static final LatencyHistogram.Snapshot NO_RUNS = new LatencyHistogram.Snapshot(0, 0, 0, 0, 0, 0);
+
+    private final int id;
+    private final Runnable task;
+    private final OverlapPolicy overlapPolicy;
+
+    // Only used for SKIP and QUEUE
+    private final AtomicInteger state = new AtomicInteger(IDLE);
+    private volatile long queuedPlannedNanos;
+
+    private final AtomicInteger activeRuns = new AtomicInteger();
+    private final LongAdder runCount = new LongAdder();
+    private final LongAdder exceptionCount = new LongAdder();
+    private final LongAdder skippedRuns = new LongAdder();
+    // Created on the first run: most one-shot timeouts are cancelled before they run
+    private volatile Timings timings;
+
+    TaskRunner(int id, Runnable task, OverlapPolicy overlapPolicy) {
+        if (task == null || overlapPolicy == null) {
+            throw new NullPointerException("Task and overlap policy cannot be null");
+        }
+        this.id = id;
+        this.task = task;
+        this.overlapPolicy = overlapPolicy;
+    }
+
+    void fire(ExecutorService worker, long plannedNanos) {
+        fire(worker, plannedNanos, null);
+    }
+
+    /**
+     * Hands a due run to the worker. Must not be called concurrently for the same task.
+     *
+     * @param worker       the worker executor
+     * @param plannedNanos when the run was due, in {@link System#nanoTime()} terms
+     * @param afterRun     called once the run has finished or was skipped; may be null
+     */
+    void fire(ExecutorService worker, long plannedNanos, Runnable afterRun) {
+        if (this.overlapPolicy != OverlapPolicy.ALLOW_CONCURRENT && !this.state.compareAndSet(IDLE, RUNNING)) {
+            if (this.overlapPolicy == OverlapPolicy.QUEUE) {
+                this.queuedPlannedNanos = plannedNanos;
+                if (this.state.compareAndSet(RUNNING, RUNNING_QUEUED)) {
+                    return;
+                }
+                // The previous run finished in the meantime
+                if (this.state.compareAndSet(IDLE, RUNNING)) {
+                    dispatch(worker, plannedNanos, afterRun);
+                    return;
+                }
+            }
+            this.skippedRuns.increment();
+            runAfter(afterRun);
+            return;
+        }
+        dispatch(worker, plannedNanos, afterRun);
+    }
+
+    TaskMetrics snapshot() {
+        Timings timings = this.timings;
+        return new TaskMetrics(this.id, this.runCount.sum(), this.exceptionCount.sum(), this.skippedRuns.sum(),
+                this.activeRuns.get(),
+                timings != null ? timings.schedulingLag.snapshot() : NO_RUNS,
+                timings != null ? timings.executionTime.snapshot() : NO_RUNS);
+    }
+
+    private void dispatch(ExecutorService worker, long plannedNanos, Runnable afterRun) {
+        try {
+            worker.execute(() -> {
+                try {
+                    runQueued(plannedNanos);
+                } finally {
+                    runAfter(afterRun);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.state.set(IDLE);
+            this.skippedRuns.increment();
+            Logger.getGlobal().log(Level.WARNING, "Worker rejected scheduled task " + this.id + ", skipping this run", e);
+            runAfter(afterRun);
+        }
+    }
+
+    private void runQueued(long plannedNanos) {
+        long planned = plannedNanos;
+        try {
+            while (true) {
+                run(planned);
+                // Only QUEUE ever reaches RUNNING_QUEUED
+                if (this.overlapPolicy == OverlapPolicy.ALLOW_CONCURRENT || this.state.compareAndSet(RUNNING, IDLE)) {
+                    return;
+                }
+                // A run became due meanwhile; run it right away on this thread
+                this.state.set(RUNNING);
+                planned = this.queuedPlannedNanos;
+            }
+        } catch (Error e) {
+            this.state.set(IDLE);
+            throw e;
+        }
+    }
+
+    private void run(long plannedNanos) {
+        long startNanos = System.nanoTime();
+        Timings timings = timings();
+        timings.schedulingLag.record(startNanos - plannedNanos);
+        this.activeRuns.incrementAndGet();
+        try {
+            this.task.run();
+        } catch (RuntimeException e) {
+            this.exceptionCount.increment();
+            Logger.getGlobal().log(Level.WARNING, "Scheduled task " + this.id + " failed", e);
+        } finally {
+            this.activeRuns.decrementAndGet();
+            timings.executionTime.record(System.nanoTime() - startNanos);
+            this.runCount.increment();
+        }
+    }
+
+    private Timings timings() {
+        Timings timings = this.timings;
+        if (timings == null) {
+            synchronized (this) {
+                timings = this.timings;
+                if (timings == null) {
+                    timings = new Timings();
+                    this.timings = timings;
+                }
+            }
+        }
+        return timings;
+    }
+
+    private static void runAfter(Runnable afterRun) {
+        if (afterRun != null) {
+            afterRun.run();
+        }
+    }
+
+    private static final class Timings {
+        private final LatencyHistogram schedulingLag = new LatencyHistogram();
+        private final LatencyHistogram executionTime = new LatencyHistogram();
+    }
+
+}
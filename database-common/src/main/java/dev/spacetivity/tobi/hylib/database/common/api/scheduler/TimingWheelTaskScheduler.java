@@ -0,0 +1,497 @@
+package dev.spacetivity.tobi.hylib.database.common.api.scheduler;
+
+import dev.spacetivity.tobi.hylib.database.api.scheduler.OverlapPolicy;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.ScheduledTask;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskMetrics;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link TaskScheduler} backed by a hashed hierarchical timing wheel.
+ *
+ * <p>Time advances in ticks of a fixed duration. Tasks due within the next 512 ticks sit in the bucket of
+ * their tick on the first wheel; tasks further out sit on one of three coarser wheels (512 times coarser
+ * each) and move down when their bucket comes up. Scheduling and cancelling are O(1) and lock-free: both
+ * only enqueue a request, which the single ticker thread applies to the wheel before each tick. This
+ * scales to tens of thousands of per-player timeouts, where the binary heap of
+ * {@link DefaultTaskScheduler} costs O(log n) per operation under one lock.
+ *
+ * <p>Tasks fire on the first tick at or after their deadline, so they may run up to one tick late.
+ * Execution is delegated to the worker executor and measured, as with {@link DefaultTaskScheduler}.
+ *
+ * <p>The ticker thread runs until {@link #shutdown()} is called.
+ */
+public class TimingWheelTaskScheduler implements TaskScheduler {
+
+    public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+    private static final int WHEEL_BITS = 9;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    // Deadlines further out are parked on the top wheel and re-placed when their bucket comes up
+    private static final long MAX_PLACEMENT_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private final AtomicInteger taskIdSeq = new AtomicInteger();
+    private final ConcurrentMap<Integer, Timeout> tasks = new ConcurrentHashMap<>();
+    private final TaskGroups groups = new TaskGroups();
+
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+
+    private final ExecutorService worker;
+    private final long tickNanos;
+    private final long startNanos;
+    private final Thread ticker;
+    private volatile boolean running = true;
+
+    // Only accessed by the ticker thread
+    private final Bucket[][] wheels = new Bucket[LEVELS][WHEEL_SIZE];
+    private long currentTick;
+
+    public TimingWheelTaskScheduler(ExecutorService worker) {
+        this(worker, DEFAULT_TICK_DURATION);
+    }
+
+    public TimingWheelTaskScheduler(ExecutorService worker, Duration tickDuration) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        this.worker = worker;
+        this.tickNanos = tickDuration.toNanos();
+        for (Bucket[] wheel : this.wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.startNanos = System.nanoTime();
+        this.ticker = Thread.ofPlatform().name("timing-wheel").daemon(true).start(this::runTicker);
+    }
+
+    /**
+     * Cancels all tasks and stops the ticker thread. Runs already handed to the worker are not interrupted;
+     * scheduling afterwards throws {@link RejectedExecutionException}.
+     */
+    public void shutdown() {
+        this.running = false;
+        LockSupport.unpark(this.ticker);
+        cancelAll();
+    }
+
+    @Override
+    public ScheduledTask schedule(Runnable task, Duration delay) {
+        return add(new Timeout(this.taskIdSeq.incrementAndGet(), task, Kind.ONCE, OverlapPolicy.ALLOW_CONCURRENT, null, null, false), delay.toNanos());
+    }
+
+    @Override
+    public ScheduledTask scheduleAtTime(Runnable task, Instant time) {
+        Duration delay = Duration.between(Instant.now(), time);
+        return schedule(task, delay.isNegative() ? Duration.ZERO : delay);
+    }
+
+    @Override
+    public ScheduledTask scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period, OverlapPolicy overlapPolicy) {
+        return add(new Timeout(this.taskIdSeq.incrementAndGet(), task, Kind.FIXED_RATE, overlapPolicy, period, null, false), initialDelay.toNanos());
+    }
+
+    @Override
+    public ScheduledTask scheduleWithFixedDelay(Runnable task, Duration initialDelay, Duration delay) {
+        return add(new Timeout(this.taskIdSeq.incrementAndGet(), task, Kind.FIXED_DELAY, OverlapPolicy.ALLOW_CONCURRENT, delay, null, false), initialDelay.toNanos());
+    }
+
+    @Override
+    public ScheduledTask runTaskLater(Runnable task, Duration delay) {
+        return add(new Timeout(this.taskIdSeq.incrementAndGet(), task, Kind.ONCE, OverlapPolicy.ALLOW_CONCURRENT, null, null, true), delay.toNanos());
+    }
+
+    @Override
+    public ScheduledTask scheduleAtTimeOfDay(LocalTime time, Period period, Runnable task) {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime next = now.toLocalDate().atTime(time).atZone(now.getZone());
+        if (!next.isAfter(now)) {
+            next = next.plus(period);
+        }
+
+        TimeOfDay timeOfDay = new TimeOfDay(time, period, next);
+        return add(new Timeout(this.taskIdSeq.incrementAndGet(), task, Kind.TIME_OF_DAY, OverlapPolicy.ALLOW_CONCURRENT, null, timeOfDay, false), Duration.between(now, next).toNanos());
+    }
+
+    @Override
+    public boolean cancelTask(int id) {
+        Timeout timeout = this.tasks.remove(id);
+        this.groups.remove(id);
+        return timeout != null && timeout.cancel();
+    }
+
+    @Override
+    public ScheduledTask getTask(int id) {
+        return this.tasks.get(id);
+    }
+
+    @Override
+    public TaskMetrics getTaskMetrics(int id) {
+        Timeout timeout = this.tasks.get(id);
+        TaskRunner runner = timeout != null ? timeout.runner : null;
+        return runner != null ? runner.snapshot() : null;
+    }
+
+    @Override
+    public Set<ScheduledTask> getAllTasks() {
+        return new HashSet<>(this.tasks.values());
+    }
+
+    @Override
+    public int getTaskCount() {
+        return this.tasks.size();
+    }
+
+    @Override
+    public Duration getRemainingDelay(int id) {
+        Timeout timeout = this.tasks.get(id);
+        if (timeout == null || timeout.state.get() != Timeout.WAITING) {
+            return null;
+        }
+        long remaining = timeout.deadlineNanos - System.nanoTime();
+        return remaining >= 0 ? Duration.ofNanos(remaining) : null;
+    }
+
+    @Override
+    public void cancelAll() {
+        this.tasks.values().forEach(Timeout::cancel);
+        this.tasks.clear();
+        this.groups.clear();
+    }
+
+    @Override
+    public ScheduledTask addToGroup(Object owner, ScheduledTask task) {
+        if (task == null) {
+            throw new NullPointerException("Task cannot be null");
+        }
+        this.groups.add(owner, task.getId());
+        // The task may have finished meanwhile and must not linger in the group
+        Timeout timeout = this.tasks.get(task.getId());
+        if (timeout == null || timeout.runner == null) {
+            this.groups.remove(task.getId());
+        }
+        return task;
+    }
+
+    @Override
+    public Set<ScheduledTask> getGroup(Object owner) {
+        Set<ScheduledTask> result = new HashSet<>();
+        for (int id : this.groups.get(owner)) {
+            ScheduledTask task = getTask(id);
+            if (task != null) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int cancelGroup(Object owner) {
+        int cancelled = 0;
+        for (int id : this.groups.removeGroup(owner)) {
+            if (cancelTask(id)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    private ScheduledTask add(Timeout timeout, long delayNanos) {
+        if (!this.running) {
+            throw new RejectedExecutionException("Scheduler has been shut down");
+        }
+        this.tasks.put(timeout.id, timeout);
+        arm(timeout, System.nanoTime() + Math.max(0, delayNanos));
+        return timeout;
+    }
+
+    private void arm(Timeout timeout, long deadlineNanos) {
+        timeout.deadlineNanos = deadlineNanos;
+        this.pendingAdds.add(timeout);
+    }
+
+    private void runTicker() {
+        while (this.running) {
+            long nextTickNanos = this.startNanos + (this.currentTick + 1) * this.tickNanos;
+            long sleepNanos = nextTickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+                continue;
+            }
+
+            try {
+                applyPendingCancels();
+                applyPendingAdds();
+                advance();
+            } catch (RuntimeException | Error e) {
+                // A dead ticker would silently stop every task, so keep ticking
+                Logger.getGlobal().log(Level.SEVERE, "Timing wheel tick failed", e);
+            }
+        }
+    }
+
+    private void applyPendingAdds() {
+        Timeout timeout;
+        while ((timeout = this.pendingAdds.poll()) != null) {
+            if (timeout.state.get() == Timeout.CANCELLED) {
+                continue;
+            }
+            // Ceiling division; a task never fires before its deadline
+            long deadlineTick = Math.ceilDiv(timeout.deadlineNanos - this.startNanos, this.tickNanos);
+            timeout.deadlineTick = Math.max(deadlineTick, this.currentTick + 1);
+            place(timeout);
+        }
+    }
+
+    private void applyPendingCancels() {
+        Timeout timeout;
+        while ((timeout = this.pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long deadlineTick = Math.min(timeout.deadlineTick, this.currentTick + MAX_PLACEMENT_TICKS);
+        // Lowest wheel on which the deadline and the current tick share all coarser digits
+        int level = 0;
+        while (level < LEVELS - 1 && (deadlineTick >>> (WHEEL_BITS * (level + 1))) != (this.currentTick >>> (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = (int) (deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+        this.wheels[level][index].add(timeout);
+    }
+
+    private void advance() {
+        long tick = ++this.currentTick;
+
+        // When a wheel wraps, move the entries of the next coarser bucket down; coarsest first
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((tick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                Bucket bucket = this.wheels[level][(int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK];
+                Timeout timeout;
+                while ((timeout = bucket.poll()) != null) {
+                    place(timeout);
+                }
+            }
+        }
+
+        Bucket bucket = this.wheels[0][(int) tick & WHEEL_MASK];
+        Timeout timeout;
+        Bucket notDue = null;
+        while ((timeout = bucket.poll()) != null) {
+            if (timeout.deadlineTick > tick) {
+                // Parked beyond the wheel range; re-placed once the bucket is empty
+                if (notDue == null) {
+                    notDue = new Bucket();
+                }
+                notDue.add(timeout);
+            } else {
+                fire(timeout);
+            }
+        }
+        if (notDue != null) {
+            while ((timeout = notDue.poll()) != null) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void fire(Timeout timeout) {
+        if (!timeout.state.compareAndSet(Timeout.WAITING, Timeout.RUNNING)) {
+            return;
+        }
+
+        if (timeout.kind == Kind.FIXED_DELAY) {
+            // Re-armed only after the run completes
+            timeout.runner.fire(this.worker, timeout.deadlineNanos, () -> rearm(timeout, System.nanoTime() + timeout.period.toNanos()));
+            return;
+        }
+
+        if (timeout.kind == Kind.ONCE && !timeout.removeAfterRun) {
+            // The task stays retrievable, but its metrics and group membership end with the run
+            timeout.runner.fire(this.worker, timeout.deadlineNanos, () -> {
+                timeout.runner = null;
+                this.groups.remove(timeout.id);
+            });
+        } else {
+            timeout.runner.fire(this.worker, timeout.deadlineNanos);
+        }
+        switch (timeout.kind) {
+            case ONCE -> {
+                timeout.state.compareAndSet(Timeout.RUNNING, Timeout.EXPIRED);
+                if (timeout.removeAfterRun && this.tasks.remove(timeout.id, timeout)) {
+                    this.groups.remove(timeout.id);
+                }
+            }
+            case FIXED_RATE -> rearm(timeout, timeout.deadlineNanos + timeout.period.toNanos());
+            case TIME_OF_DAY -> {
+                ZonedDateTime now = ZonedDateTime.now();
+                ZonedDateTime next = timeout.timeOfDay.advance(now);
+                rearm(timeout, System.nanoTime() + Duration.between(now, next).toNanos());
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void rearm(Timeout timeout, long deadlineNanos) {
+        timeout.deadlineNanos = deadlineNanos;
+        // A cancel during the run wins
+        if (timeout.state.compareAndSet(Timeout.RUNNING, Timeout.WAITING)) {
+            this.pendingAdds.add(timeout);
+        }
+    }
+
+    private enum Kind {
+        ONCE, FIXED_RATE, FIXED_DELAY, TIME_OF_DAY
+    }
+
+    private static final class TimeOfDay {
+        private final LocalTime time;
+        private final Period period;
+        private ZonedDateTime nextRun;
+
+        private TimeOfDay(LocalTime time, Period period, ZonedDateTime nextRun) {
+            this.time = time;
+            this.period = period;
+            this.nextRun = nextRun;
+        }
+
+        private ZonedDateTime advance(ZonedDateTime now) {
+            this.nextRun = this.nextRun.plus(this.period);
+            if (!this.nextRun.isAfter(now)) {
+                this.nextRun = now.toLocalDate().atTime(this.time).atZone(now.getZone());
+                if (!this.nextRun.isAfter(now)) {
+                    this.nextRun = this.nextRun.plus(this.period);
+                }
+            }
+            return this.nextRun;
+        }
+    }
+
+    private final class Timeout implements ScheduledTask {
+        private static final int WAITING = 0;
+        private static final int RUNNING = 1;
+        private static final int EXPIRED = 2;
+        private static final int CANCELLED = 3;
+
+        private final int id;
+        // Null once a one-shot kept after its run has finished
+        private volatile TaskRunner runner;
+        private final Kind kind;
+        private final Duration period;
+        private final TimeOfDay timeOfDay;
+        private final boolean removeAfterRun;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile long deadlineNanos;
+
+        // Ticker thread only
+        private long deadlineTick;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(int id, Runnable task, Kind kind, OverlapPolicy overlapPolicy, Duration period, TimeOfDay timeOfDay, boolean removeAfterRun) {
+            this.id = id;
+            this.runner = new TaskRunner(id, task, overlapPolicy);
+            this.kind = kind;
+            this.period = period;
+            this.timeOfDay = timeOfDay;
+            this.removeAfterRun = removeAfterRun;
+        }
+
+        @Override
+        public int getId() {
+            return this.id;
+        }
+
+        @Override
+        public boolean cancel() {
+            int current;
+            do {
+                current = this.state.get();
+                if (current == CANCELLED || current == EXPIRED) {
+                    return false;
+                }
+            } while (!this.state.compareAndSet(current, CANCELLED));
+
+            if (tasks.remove(this.id, this)) {
+                groups.remove(this.id);
+            }
+            pendingCancels.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.state.get() == CANCELLED;
+        }
+    }
+
+    // Intrusive doubly linked list, so a cancelled timeout is unlinked in O(1); ticker thread only
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = this.tail;
+            timeout.next = null;
+            if (this.tail == null) {
+                this.head = timeout;
+            } else {
+                this.tail.next = timeout;
+            }
+            this.tail = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev == null) {
+                this.head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                this.tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private Timeout poll() {
+            Timeout timeout = this.head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+}
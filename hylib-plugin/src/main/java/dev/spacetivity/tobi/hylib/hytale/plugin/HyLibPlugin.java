@@ -6,10 +6,16 @@ import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 import com.hypixel.hytale.server.core.util.Config;
 import dev.spacetivity.tobi.hylib.database.api.DatabaseProvider;
+import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseType;
+import dev.spacetivity.tobi.hylib.database.api.connection.PoolSettings;
+import dev.spacetivity.tobi.hylib.database.api.connection.ReplicaSelectionStrategy;
+import dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl.H2Credentials;
 import dev.spacetivity.tobi.hylib.database.api.connection.credentials.impl.MariaDbCredentials;
+import dev.spacetivity.tobi.hylib.database.api.scheduler.SchedulerType;
 import dev.spacetivity.tobi.hylib.database.common.DatabaseApiImpl;
 import dev.spacetivity.tobi.hylib.hytale.api.HytaleProvider;
 import dev.spacetivity.tobi.hylib.hytale.api.localization.Lang;
+import dev.spacetivity.tobi.hylib.hytale.api.player.HyPlayerService;
 import dev.spacetivity.tobi.hylib.hytale.common.HytaleApiImpl;
 import dev.spacetivity.tobi.hylib.hytale.plugin.command.LanguageCommand;
 import dev.spacetivity.tobi.hylib.hytale.plugin.config.DbConfig;
@@ -18,6 +24,12 @@ import dev.spacetivity.tobi.hylib.hytale.plugin.player.PlayerListener;
 import dev.spacetivity.tobi.hymessage.api.HyMessageProvider;
 import dev.spacetivity.tobi.hymessage.common.HyMessageApiImpl;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 public class HyLibPlugin extends JavaPlugin {
 
     private DatabaseApiImpl dbApi;
@@ -44,24 +56,56 @@ public class HyLibPlugin extends JavaPlugin {
 
         // Initialize database only if enabled
         if (dbConfigValue.isEnabled()) {
-            this.dbApi = new DatabaseApiImpl();
+            this.dbApi = new DatabaseApiImpl(
+                    dbConfigValue.getMaxQueuedTasks(),
+                    SchedulerType.valueOf(dbConfigValue.getScheduler().toUpperCase()),
+                    Duration.ofMillis(dbConfigValue.getSchedulerTickMillis())
+            );
             DatabaseProvider.register(this.dbApi);
 
-            MariaDbCredentials credentials = new MariaDbCredentials(
-                    dbConfigValue.getHostname(),
-                    dbConfigValue.getPort(),
-                    dbConfigValue.getUsername(),
-                    dbConfigValue.getDatabase(),
-                    dbConfigValue.getPassword()
+            PoolSettings poolSettings = new PoolSettings(
+                    dbConfigValue.getMaximumPoolSize(),
+                    dbConfigValue.getMinimumIdle(),
+                    dbConfigValue.getPreparedStatementCacheSize(),
+                    dbConfigValue.isUseServerPrepStmts(),
+                    dbConfigValue.isRewriteBatchedStatements(),
+                    dbConfigValue.getSocketTimeoutMillis(),
+                    dbConfigValue.getLeakDetectionThresholdMillis()
             );
 
-            this.dbApi.establishConnection(credentials);
+            DatabaseType databaseType = DatabaseType.valueOf(dbConfigValue.getType().toUpperCase());
+            if (databaseType == DatabaseType.H2) {
+                // Embedded database for local runs; no external server needed
+                H2Credentials credentials = new H2Credentials(
+                        dbConfigValue.getH2Path(),
+                        dbConfigValue.getUsername(),
+                        dbConfigValue.getPassword()
+                );
+
+                this.dbApi.establishConnection(credentials, poolSettings);
+            } else {
+                MariaDbCredentials credentials = new MariaDbCredentials(
+                        dbConfigValue.getHostname(),
+                        dbConfigValue.getPort(),
+                        dbConfigValue.getUsername(),
+                        dbConfigValue.getDatabase(),
+                        dbConfigValue.getPassword()
+                );
+
+                this.dbApi.establishConnection(
+                        credentials,
+                        parseReadReplicas(dbConfigValue),
+                        ReplicaSelectionStrategy.valueOf(dbConfigValue.getReplicaSelection().toUpperCase()),
+                        poolSettings
+                );
+            }
         }
 
         HyMessageProvider.register(new HyMessageApiImpl());
 
         Lang defaultLanguage = Lang.of(languageConfigValue.getDefaultLanguage());
-        HytaleProvider.register(new HytaleApiImpl(getClassLoader(), defaultLanguage));
+        Duration playerFlushInterval = Duration.ofMillis(dbConfigValue.getPlayerFlushIntervalMillis());
+        HytaleProvider.register(new HytaleApiImpl(getClassLoader(), defaultLanguage, playerFlushInterval));
 
         if (dbConfigValue.isEnabled() && languageConfigValue.isLanguageCommandEnabled()) {
             getCommandRegistry().registerCommand(new LanguageCommand());
@@ -71,4 +115,44 @@ public class HyLibPlugin extends JavaPlugin {
         getEventRegistry().registerGlobal(PlayerDisconnectEvent.class, PlayerListener::onPlayerDisconnect);
     }
 
+    @Override
+    protected void shutdown() {
+        // Write buffered player changes before the database connection goes away
+        try {
+            HyPlayerService hyPlayerService = HytaleProvider.getApi().getHyPlayerService();
+            if (hyPlayerService != null) {
+                hyPlayerService.flushPendingChanges();
+            }
+        } catch (RuntimeException e) {
+            Logger.getGlobal().log(Level.SEVERE, "Failed to flush pending HyPlayer changes on shutdown", e);
+        }
+
+        try {
+            if (this.dbApi != null) {
+                this.dbApi.shutdown();
+            }
+        } finally {
+            super.shutdown();
+        }
+    }
+
+    /**
+     * Parses the comma separated {@code host:port} list of read replicas. Replicas share the
+     * username, password and database of the primary.
+     */
+    private static List<MariaDbCredentials> parseReadReplicas(DbConfig dbConfig) {
+        List<MariaDbCredentials> replicas = new ArrayList<>();
+        for (String entry : dbConfig.getReadReplicas().split(",")) {
+            String address = entry.trim();
+            if (address.isEmpty()) {
+                continue;
+            }
+            int separator = address.lastIndexOf(':');
+            String hostname = separator < 0 ? address : address.substring(0, separator);
+            int port = separator < 0 ? dbConfig.getPort() : Integer.parseInt(address.substring(separator + 1));
+            replicas.add(new MariaDbCredentials(hostname, port, dbConfig.getUsername(), dbConfig.getDatabase(), dbConfig.getPassword()));
+        }
+        return replicas;
+    }
+
 }
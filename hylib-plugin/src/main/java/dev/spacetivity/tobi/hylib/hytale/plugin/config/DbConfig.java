@@ -11,19 +11,49 @@ import lombok.Setter;
 public class DbConfig {
 
     private boolean enabled = false;
+    private String type = "MARIADB";
+    private String h2Path = "./hylib-data/hylib";
     private String hostname = "localhost";
     private Integer port = 3306;
     private String username = "root";
     private String database = "game_db";
     private String password = "password";
+    private String readReplicas = "";
+    private String replicaSelection = "ROUND_ROBIN";
+    private Integer maximumPoolSize = 10;
+    private Integer minimumIdle = 2;
+    private Integer preparedStatementCacheSize = 250;
+    private boolean useServerPrepStmts = false;
+    private boolean rewriteBatchedStatements = true;
+    private Integer socketTimeoutMillis = 0;
+    private Integer leakDetectionThresholdMillis = 0;
+    private Integer maxQueuedTasks = 1000;
+    private Integer playerFlushIntervalMillis = 5000;
+    private String scheduler = "DEFAULT";
+    private Integer schedulerTickMillis = 10;
 
     public static BuilderCodec<DbConfig> CODEC = BuilderCodec.builder(DbConfig.class, DbConfig::new)
             .append(new KeyedCodec<>("Enabled", Codec.BOOLEAN), (obj, val, info) -> obj.setEnabled(val != null ? val : false), (obj, info) -> obj.isEnabled()).add()
+            .append(new KeyedCodec<>("Type", Codec.STRING), (obj, val, info) -> obj.setType(val != null ? val : "MARIADB"), (obj, info) -> obj.getType()).add()
+            .append(new KeyedCodec<>("H2Path", Codec.STRING), (obj, val, info) -> obj.setH2Path(val != null ? val : "./hylib-data/hylib"), (obj, info) -> obj.getH2Path()).add()
             .append(new KeyedCodec<>("Hostname", Codec.STRING), (obj, val, info) -> obj.setHostname(val != null ? val : "localhost"), (obj, info) -> obj.getHostname()).add()
             .append(new KeyedCodec<>("Port", Codec.INTEGER), (obj, val, info) -> obj.setPort(val != null ? val : 5520), (obj, info) -> obj.getPort()).add()
             .append(new KeyedCodec<>("Username", Codec.STRING), (obj, val, info) -> obj.setUsername(val != null ? val : "root"), (obj, info) -> obj.getUsername()).add()
             .append(new KeyedCodec<>("Database", Codec.STRING), (obj, val, info) -> obj.setDatabase(val != null ? val : "game_db"), (obj, info) -> obj.getDatabase()).add()
             .append(new KeyedCodec<>("Password", Codec.STRING), (obj, val, info) -> obj.setPassword(val != null ? val : "password"), (obj, info) -> obj.getPassword()).add()
+            .append(new KeyedCodec<>("ReadReplicas", Codec.STRING), (obj, val, info) -> obj.setReadReplicas(val != null ? val : ""), (obj, info) -> obj.getReadReplicas()).add()
+            .append(new KeyedCodec<>("ReplicaSelection", Codec.STRING), (obj, val, info) -> obj.setReplicaSelection(val != null ? val : "ROUND_ROBIN"), (obj, info) -> obj.getReplicaSelection()).add()
+            .append(new KeyedCodec<>("MaximumPoolSize", Codec.INTEGER), (obj, val, info) -> obj.setMaximumPoolSize(val != null ? val : 10), (obj, info) -> obj.getMaximumPoolSize()).add()
+            .append(new KeyedCodec<>("MinimumIdle", Codec.INTEGER), (obj, val, info) -> obj.setMinimumIdle(val != null ? val : 2), (obj, info) -> obj.getMinimumIdle()).add()
+            .append(new KeyedCodec<>("PreparedStatementCacheSize", Codec.INTEGER), (obj, val, info) -> obj.setPreparedStatementCacheSize(val != null ? val : 250), (obj, info) -> obj.getPreparedStatementCacheSize()).add()
+            .append(new KeyedCodec<>("UseServerPrepStmts", Codec.BOOLEAN), (obj, val, info) -> obj.setUseServerPrepStmts(val != null ? val : false), (obj, info) -> obj.isUseServerPrepStmts()).add()
+            .append(new KeyedCodec<>("RewriteBatchedStatements", Codec.BOOLEAN), (obj, val, info) -> obj.setRewriteBatchedStatements(val != null ? val : true), (obj, info) -> obj.isRewriteBatchedStatements()).add()
+            .append(new KeyedCodec<>("SocketTimeoutMillis", Codec.INTEGER), (obj, val, info) -> obj.setSocketTimeoutMillis(val != null ? val : 0), (obj, info) -> obj.getSocketTimeoutMillis()).add()
+            .append(new KeyedCodec<>("LeakDetectionThresholdMillis", Codec.INTEGER), (obj, val, info) -> obj.setLeakDetectionThresholdMillis(val != null ? val : 0), (obj, info) -> obj.getLeakDetectionThresholdMillis()).add()
+            .append(new KeyedCodec<>("MaxQueuedTasks", Codec.INTEGER), (obj, val, info) -> obj.setMaxQueuedTasks(val != null ? val : 1000), (obj, info) -> obj.getMaxQueuedTasks()).add()
+            .append(new KeyedCodec<>("PlayerFlushIntervalMillis", Codec.INTEGER), (obj, val, info) -> obj.setPlayerFlushIntervalMillis(val != null ? val : 5000), (obj, info) -> obj.getPlayerFlushIntervalMillis()).add()
+            .append(new KeyedCodec<>("Scheduler", Codec.STRING), (obj, val, info) -> obj.setScheduler(val != null ? val : "DEFAULT"), (obj, info) -> obj.getScheduler()).add()
+            .append(new KeyedCodec<>("SchedulerTickMillis", Codec.INTEGER), (obj, val, info) -> obj.setSchedulerTickMillis(val != null ? val : 10), (obj, info) -> obj.getSchedulerTickMillis()).add()
             .build();
 
 }
@@ -9,10 +9,11 @@ import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import dev.spacetivity.tobi.hylib.hytale.api.HytaleProvider;
-import dev.spacetivity.tobi.hylib.hytale.api.player.HyPlayer;
 import dev.spacetivity.tobi.hylib.hytale.api.player.HyPlayerService;
 
 import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class PlayerListener {
 
@@ -27,31 +28,21 @@ public class PlayerListener {
             Ref<EntityStore> ref = event.getPlayerRef();
             UUID uniqueId = getUniqueId(ref);
 
-            hyPlayerService.loadHyPlayer(uniqueId, hyPlayer -> {
-                world.execute(() -> {
-                    String username = player.getDisplayName();
-                    if (hyPlayer == null) {
-                        handleNewPlayer(uniqueId, username);
-                    } else {
-                        handleExistingPlayer(uniqueId, username, hyPlayer);
-                    }
-                });
+            // One idempotent write creates the player or refreshes their username
+            hyPlayerService.joinHyPlayer(uniqueId, player.getDisplayName()).exceptionally(throwable -> {
+                Logger.getGlobal().log(Level.WARNING, "Failed to register joining HyPlayer " + uniqueId, throwable);
+                return null;
             });
         });
     }
 
     public static void onPlayerDisconnect(PlayerDisconnectEvent event) {
         UUID uniqueId = event.getPlayerRef().getUuid();
-        hyPlayerService.removeCachedHyPlayer(uniqueId);
-    }
-
-    private static void handleNewPlayer(UUID uniqueId, String username) {
-        hyPlayerService.createHyPlayer(uniqueId, username);
-    }
-
-    private static void handleExistingPlayer(UUID uniqueId, String username, HyPlayer hyPlayer) {
-        if (!username.equals(hyPlayer.getUsername())) {
-            hyPlayerService.changeUsername(uniqueId, username);
+        try {
+            hyPlayerService.flushPendingChanges(uniqueId);
+        } finally {
+            // An online player must not stay cached after leaving, whatever happened to the flush
+            hyPlayerService.removeCachedHyPlayer(uniqueId);
         }
     }
 
@@ -3,7 +3,9 @@ package dev.spacetivity.tobi.hylib.hytale.api.player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import dev.spacetivity.tobi.hylib.hytale.api.localization.Lang;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -24,17 +26,41 @@ public interface HyPlayerService {
      */
     CompletableFuture<List<HyPlayer>> getOfflineHyPlayers();
 
+    /**
+     * Passes every player stored in the database to the consumer, one at a time.
+     * 
+     * <p>Unlike {@link #getOfflineHyPlayers()}, players are streamed from the database
+     * and never collected into a list, so memory usage does not grow with the player count.
+     * 
+     * @param consumer callback that receives each player; called off the main thread
+     * @return a CompletableFuture that completes once all players have been processed
+     */
+    CompletableFuture<Void> forEachOfflineHyPlayer(Consumer<HyPlayer> consumer);
+
     /**
      * Gets an offline player by their unique identifier.
      * 
+     * <p>Results are cached for a short time, and concurrent lookups of the same player share one query.
+     * 
      * @param uniqueId the player's UUID
      * @return a CompletableFuture that completes with the player, or null if not found
      */
     CompletableFuture<HyPlayer> getOfflineHyPlayer(UUID uniqueId);
 
+    /**
+     * Gets multiple offline players by their unique identifiers in a single database round trip.
+     * 
+     * @param uniqueIds the players' UUIDs
+     * @return a CompletableFuture that completes with the found players by UUID; unknown UUIDs are absent
+     */
+    CompletableFuture<Map<UUID, HyPlayer>> getOfflineHyPlayers(Collection<UUID> uniqueIds);
+
     /**
      * Gets an offline player by their username.
      * 
+     * <p>Renames that are still buffered (see {@link #changeUsername(UUID, String)}) are taken into account:
+     * the new name finds the player, the old name does not.
+     * 
      * @param username the player's username
      * @return a CompletableFuture that completes with the player, or null if not found
      */
@@ -65,7 +91,7 @@ public interface HyPlayerService {
     HyPlayer getOnlineHyPlayer(PlayerRef playerRef);
 
     /**
-     * Gets an online player by their username.
+     * Gets an online player by their username, ignoring case.
      * 
      * @param username the player's username
      * @return the online player, or null if not online
@@ -75,31 +101,63 @@ public interface HyPlayerService {
     /**
      * Creates a new player in the database.
      * 
-     * <p>This method creates a new player with the default language.
-     * The player will be automatically cached if they are online.
+     * <p>This method creates a new player with the default language. If the player already exists, only
+     * the username is updated. The player will be automatically cached if they are online.
      * 
      * @param uniqueId the player's UUID
      * @param username the player's username
      */
     void createHyPlayer(UUID uniqueId, String username);
 
+    /**
+     * Registers a joining player and caches them.
+     * 
+     * <p>Creates the player with the default language, or updates the username of an existing player,
+     * in a single idempotent write; the stored language of an existing player is never overwritten.
+     * The player is then read back from the primary database.
+     * 
+     * @param uniqueId the player's UUID
+     * @param username the player's current username
+     * @return a CompletableFuture that completes with the cached player, or exceptionally if the write failed
+     */
+    CompletableFuture<HyPlayer> joinHyPlayer(UUID uniqueId, String username);
+
     /**
      * Deletes a player from the database.
      * 
-     * <p>This also removes the player from the cache if they are online.
+     * <p>This also removes the player from the cache if they are online. The delete runs asynchronously;
+     * if the database executor is saturated, the returned future fails with a
+     * {@link java.util.concurrent.RejectedExecutionException} and nothing is deleted.
      * 
      * @param uniqueId the player's UUID
+     * @return a CompletableFuture that completes once the player was deleted, or exceptionally if the delete failed
      */
-    void deleteHyPlayer(UUID uniqueId);
+    CompletableFuture<Void> deleteHyPlayer(UUID uniqueId);
 
     /**
      * Loads a player from the database and caches them.
      * 
+     * <p>If the load fails or times out, the failure is logged and {@code result} is not called; use
+     * {@link #loadHyPlayer(UUID, Consumer, Consumer)} to react to it.
+     * 
      * @param uniqueId the player's UUID
-     * @param result   callback that receives the loaded player
+     * @param result   callback that receives the loaded player, or null if the player does not exist
      */
     void loadHyPlayer(UUID uniqueId, Consumer<HyPlayer> result);
 
+    /**
+     * Loads a player from the database and caches them, reporting load failures separately.
+     * 
+     * <p>Exactly one of the callbacks is called. A failed load is never reported as a missing player,
+     * since the caller would then treat an existing player as new. Exceptions thrown by the callbacks
+     * are logged and do not count as load failures.
+     * 
+     * @param uniqueId the player's UUID
+     * @param result   callback that receives the loaded player, or null if the player does not exist
+     * @param failure  callback that receives the cause if the load failed or timed out
+     */
+    void loadHyPlayer(UUID uniqueId, Consumer<HyPlayer> result, Consumer<Throwable> failure);
+
     /**
      * Caches a player for fast access.
      * 
@@ -118,6 +176,9 @@ public interface HyPlayerService {
     /**
      * Changes the username of a player.
      * 
+     * <p>The cached player is updated immediately; the database write is buffered and batched with other
+     * changes (see {@link #flushPendingChanges()}).
+     * 
      * @param uniqueId   the player's UUID
      * @param newUsername the new username
      */
@@ -126,10 +187,29 @@ public interface HyPlayerService {
     /**
      * Changes the language preference of a player.
      *
+     * <p>The cached player is updated immediately; the database write is buffered and batched with other
+     * changes (see {@link #flushPendingChanges()}).
+     *
      * @param uniqueId the player's UUID
      * @param lang     the new lang
      * @throws NullPointerException if lang is null
      */
     void changeLanguage(UUID uniqueId, Lang lang);
 
+    /**
+     * Writes all buffered player changes to the database, blocking until they are written.
+     * 
+     * <p>Changes are flushed periodically; call this on shutdown so the last changes are not lost.
+     */
+    void flushPendingChanges();
+
+    /**
+     * Writes the buffered changes of one player to the database asynchronously, e.g. when they disconnect.
+     * 
+     * <p>If the database executor is saturated, the changes stay buffered for the next periodic flush.
+     * 
+     * @param uniqueId the player's UUID
+     */
+    void flushPendingChanges(UUID uniqueId);
+
 }
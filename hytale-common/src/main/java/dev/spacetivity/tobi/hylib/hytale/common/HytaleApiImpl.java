@@ -5,7 +5,6 @@ import dev.spacetivity.tobi.hylib.database.api.DatabaseProvider;
 import dev.spacetivity.tobi.hylib.database.api.cache.CacheLoader;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnectionHandler;
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnector;
-import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseType;
 import dev.spacetivity.tobi.hylib.database.api.connection.credentials.DatabaseCredentials;
 import dev.spacetivity.tobi.hylib.database.api.repository.RepositoryLoader;
 import dev.spacetivity.tobi.hylib.hytale.api.HytaleApi;
@@ -21,9 +20,11 @@ import dev.spacetivity.tobi.hylib.hytale.common.api.localization.LocalizationSer
 import dev.spacetivity.tobi.hylib.hytale.common.api.player.HyPlayerServiceImpl;
 import dev.spacetivity.tobi.hylib.hytale.common.repository.player.HyPlayerRepository;
 import dev.spacetivity.tobi.hylib.hytale.common.repository.player.cache.HyPlayerCache;
+import dev.spacetivity.tobi.hylib.hytale.common.repository.player.cache.OfflineHyPlayerCache;
 import lombok.SneakyThrows;
 
 import java.sql.Connection;
+import java.time.Duration;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -35,6 +36,8 @@ import com.zaxxer.hikari.HikariDataSource;
  */
 public class HytaleApiImpl implements HytaleApi {
 
+    private static final Duration DEFAULT_PLAYER_FLUSH_INTERVAL = Duration.ofSeconds(5);
+
     private final LocalizationService localizationService;
     private HyPlayerService hyPlayerService;
     private final MessageParser messageParser;
@@ -46,12 +49,24 @@ public class HytaleApiImpl implements HytaleApi {
      * @param classLoader the class loader for language files
      * @param defaultLanguage optional default language, or null to auto-detect
      */
-    @SneakyThrows
     public HytaleApiImpl(ClassLoader classLoader, Lang defaultLanguage) {
+        this(classLoader, defaultLanguage, DEFAULT_PLAYER_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates HytaleApiImpl. Works with or without database connection.
+     * If database is not available, HyPlayerService will be null.
+     *
+     * @param classLoader the class loader for language files
+     * @param defaultLanguage optional default language, or null to auto-detect
+     * @param playerFlushInterval how often buffered player changes (username, language) are written to the database
+     */
+    @SneakyThrows
+    public HytaleApiImpl(ClassLoader classLoader, Lang defaultLanguage, Duration playerFlushInterval) {
         // Get MessageParser from HyMessage
         this.messageParser = HyMessageProvider.getApi().getMessageParser();
         this.localizationService = new LocalizationServiceImpl(classLoader, messageParser, defaultLanguage);
-        initializeDatabase();
+        initializeDatabase(playerFlushInterval);
     }
     
     /**
@@ -72,11 +87,11 @@ public class HytaleApiImpl implements HytaleApi {
         // Create MessageParser from builder
         this.messageParser = HyMessageProvider.getApi().createMessageParser(builder);
         this.localizationService = new LocalizationServiceImpl(classLoader, messageParser, defaultLanguage);
-        initializeDatabase();
+        initializeDatabase(DEFAULT_PLAYER_FLUSH_INTERVAL);
     }
     
     @SneakyThrows
-    private void initializeDatabase() {
+    private void initializeDatabase(Duration playerFlushInterval) {
 
         // Check if database is available and connected
         DatabaseApi dbApi = null;
@@ -90,17 +105,19 @@ public class HytaleApiImpl implements HytaleApi {
         
         DatabaseConnectionHandler dbConnectionHandler = dbApi.getDatabaseConnectionHandler();
         if (dbConnectionHandler != null) {
-            DatabaseConnector<HikariDataSource, DatabaseCredentials> connector = dbConnectionHandler.getConnectorNullsafe(DatabaseType.MARIADB);
+            DatabaseConnector<HikariDataSource, DatabaseCredentials> connector = dbConnectionHandler.getConnectorNullsafe(dbConnectionHandler.getPrimaryType());
             if (connector != null) {
                 Connection connection = connector.getSafeConnection().getConnection();
                 if (connection != null) {
                     RepositoryLoader repositoryLoader = dbApi.getRepositoryLoader();
-                    repositoryLoader.register(new HyPlayerRepository(dbConnectionHandler, connection));
+                    HyPlayerRepository hyPlayerRepository = new HyPlayerRepository(dbConnectionHandler, connection);
+                    repositoryLoader.register(hyPlayerRepository);
 
                     CacheLoader cacheLoader = dbApi.getCacheLoader();
                     cacheLoader.register(new HyPlayerCache());
+                    cacheLoader.register(new OfflineHyPlayerCache(hyPlayerRepository));
 
-                    this.hyPlayerService = new HyPlayerServiceImpl(repositoryLoader, cacheLoader);
+                    this.hyPlayerService = new HyPlayerServiceImpl(repositoryLoader, cacheLoader, playerFlushInterval);
                     return;
                 }
             }
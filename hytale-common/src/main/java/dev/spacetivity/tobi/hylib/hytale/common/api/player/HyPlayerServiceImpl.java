@@ -8,50 +8,116 @@ import dev.spacetivity.tobi.hylib.database.api.DatabaseProvider;
 import dev.spacetivity.tobi.hylib.database.api.cache.CacheLoader;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.UuidUtils;
 import dev.spacetivity.tobi.hylib.database.api.repository.RepositoryLoader;
+import dev.spacetivity.tobi.hylib.database.api.repository.WriteBehindBuffer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import dev.spacetivity.tobi.hylib.hytale.api.event.events.LanguageChangeEvent;
 import dev.spacetivity.tobi.hylib.hytale.api.localization.Lang;
 import dev.spacetivity.tobi.hylib.hytale.api.player.HyPlayer;
 import dev.spacetivity.tobi.hylib.hytale.api.player.HyPlayerService;
+import dev.spacetivity.tobi.hylib.hytale.common.repository.player.HyPlayerChange;
 import dev.spacetivity.tobi.hylib.hytale.common.repository.player.HyPlayerRepository;
 import dev.spacetivity.tobi.hylib.hytale.common.repository.player.cache.HyPlayerCache;
+import dev.spacetivity.tobi.hylib.hytale.common.repository.player.cache.OfflineHyPlayerCache;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class HyPlayerServiceImpl implements HyPlayerService {
 
+    private static final Duration LOAD_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration CACHE_CLEAN_UP_INTERVAL = Duration.ofMinutes(1);
+
     private final HyPlayerRepository hyPlayerRepository;
     private final HyPlayerCache hyPlayerCache;
+    private final OfflineHyPlayerCache offlineHyPlayerCache;
+    private final WriteBehindBuffer<UUID, HyPlayerChange> pendingChanges;
 
     public HyPlayerServiceImpl(RepositoryLoader repositoryLoader, CacheLoader cacheLoader) {
+        this(repositoryLoader, cacheLoader, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public HyPlayerServiceImpl(RepositoryLoader repositoryLoader, CacheLoader cacheLoader, Duration flushInterval) {
         this.hyPlayerRepository = repositoryLoader.getRepository(HyPlayerRepository.class);
         this.hyPlayerCache = cacheLoader.getCache(HyPlayerCache.class);
+        this.offlineHyPlayerCache = cacheLoader.getCache(OfflineHyPlayerCache.class);
+        this.pendingChanges = new WriteBehindBuffer<>(HyPlayerChange::merge, this.hyPlayerRepository::applyChanges);
+        this.pendingChanges.scheduleFlush(DatabaseProvider.getApi().getScheduler(), flushInterval);
+        // Expired offline players are otherwise only dropped when they are read again
+        DatabaseProvider.getApi().getScheduler().scheduleWithFixedDelay(this.offlineHyPlayerCache::cleanUp,
+                CACHE_CLEAN_UP_INTERVAL, CACHE_CLEAN_UP_INTERVAL);
     }
 
     @Override
     public CompletableFuture<List<HyPlayer>> getOfflineHyPlayers() {
-        return this.hyPlayerRepository.getAllAsync();
+        return this.hyPlayerRepository.getAllAsync().thenApply(hyPlayers -> {
+            hyPlayers.forEach(this::applyPendingChanges);
+            return hyPlayers;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> forEachOfflineHyPlayer(Consumer<HyPlayer> consumer) {
+        return this.hyPlayerRepository.forEachAllAsync(hyPlayer -> consumer.accept(applyPendingChanges(hyPlayer)));
     }
 
     @Override
     public CompletableFuture<HyPlayer> getOfflineHyPlayer(UUID uniqueId) {
-        byte[] uuidBytes = UuidUtils.uuidToBytes(uniqueId);
-        return this.hyPlayerRepository.getAsync(HyPlayerRepository.PLAYER_ID_COL, uuidBytes);
+        HyPlayer onlineHyPlayer = this.hyPlayerCache.getValue(uniqueId);
+        if (onlineHyPlayer != null) {
+            return CompletableFuture.completedFuture(onlineHyPlayer);
+        }
+        return this.offlineHyPlayerCache.get(uniqueId).thenApply(this::applyPendingChanges);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, HyPlayer>> getOfflineHyPlayers(Collection<UUID> uniqueIds) {
+        List<byte[]> keys = new ArrayList<>(uniqueIds.size());
+        uniqueIds.forEach(uniqueId -> keys.add(UuidUtils.uuidToBytes(uniqueId)));
+
+        return this.hyPlayerRepository.getManyAsync(HyPlayerRepository.PLAYER_ID_COL, keys).thenApply(found -> {
+            Map<UUID, HyPlayer> hyPlayers = new HashMap<>(found.size());
+            found.values().forEach(hyPlayer -> hyPlayers.put(hyPlayer.getUniqueId(), applyPendingChanges(hyPlayer)));
+            return hyPlayers;
+        });
     }
 
     @Override
     public CompletableFuture<HyPlayer> getOfflineHyPlayer(String username) {
-        return this.hyPlayerRepository.getAsync(HyPlayerRepository.PLAYER_NAME_COL, username);
+        HyPlayer onlineHyPlayer = this.hyPlayerCache.getByUsername(username);
+        if (onlineHyPlayer != null) {
+            return CompletableFuture.completedFuture(onlineHyPlayer);
+        }
+
+        // The database does not know buffered renames yet: look up a player renamed to this name by ID
+        for (Map.Entry<UUID, HyPlayerChange> entry : this.pendingChanges.getAllPending().entrySet()) {
+            if (username.equalsIgnoreCase(entry.getValue().username())) {
+                return getOfflineHyPlayer(entry.getKey());
+            }
+        }
+
+        return this.hyPlayerRepository.getAsync(HyPlayerRepository.PLAYER_NAME_COL, username).thenApply(hyPlayer -> {
+            HyPlayer current = applyPendingChanges(hyPlayer);
+            // Renamed away from this name by a buffered change
+            return current != null && username.equalsIgnoreCase(current.getUsername()) ? current : null;
+        });
     }
 
     @Override
     public Set<HyPlayer> getOnlineHyPlayers() {
-        return new HashSet<>(this.hyPlayerCache.getDataMap().values());
+        return new HashSet<>(this.hyPlayerCache.values());
     }
 
     @Override
@@ -69,37 +135,66 @@ public class HyPlayerServiceImpl implements HyPlayerService {
 
     @Override
     public HyPlayer getOnlineHyPlayer(String username) {
-        return this.hyPlayerCache.getDataMap().values().stream()
-                .filter(p -> p.getUsername().equals(username))
-                .findFirst()
-                .orElse(null);
+        return this.hyPlayerCache.getByUsername(username);
     }
 
     @Override
     public void createHyPlayer(UUID uniqueId, String username) {
-        DatabaseProvider.getApi().execute(() -> {
-            HyPlayer hyPlayer = new HyPlayerImpl(uniqueId, username);
-            this.hyPlayerRepository.insert(hyPlayer);
-            cacheHyPlayer(uniqueId, hyPlayer);
+        // Caches the stored player, whose language may differ from the default if they already existed
+        joinHyPlayer(uniqueId, username).exceptionally(throwable -> {
+            Logger.getGlobal().log(Level.WARNING, "Failed to create HyPlayer " + uniqueId, throwable);
+            return null;
         });
     }
 
     @Override
-    public void deleteHyPlayer(UUID uniqueId) {
-        DatabaseProvider.getApi().execute(() -> {
-            byte[] uuidBytes = UuidUtils.uuidToBytes(uniqueId);
-            this.hyPlayerRepository.delete(HyPlayerRepository.PLAYER_ID_COL, uuidBytes);
-            removeCachedHyPlayer(uniqueId);
+    public CompletableFuture<HyPlayer> joinHyPlayer(UUID uniqueId, String username) {
+        // A buffered rename from an earlier session must not overwrite the name written here
+        if (this.pendingChanges.getPending(uniqueId) != null) {
+            this.pendingChanges.enqueue(uniqueId, HyPlayerChange.ofUsername(username));
+        }
+
+        return this.hyPlayerRepository.createAndGetAsync(new HyPlayerImpl(uniqueId, username), LOAD_TIMEOUT).thenApply(hyPlayer -> {
+            applyPendingChanges(hyPlayer);
+            this.offlineHyPlayerCache.remove(uniqueId);
+            cacheHyPlayer(uniqueId, hyPlayer);
+            return hyPlayer;
         });
     }
 
+    @Override
+    public CompletableFuture<Void> deleteHyPlayer(UUID uniqueId) {
+        try {
+            return CompletableFuture.runAsync(() -> {
+                byte[] uuidBytes = UuidUtils.uuidToBytes(uniqueId);
+                this.pendingChanges.discard(uniqueId);
+                this.hyPlayerRepository.delete(HyPlayerRepository.PLAYER_ID_COL, uuidBytes);
+                this.offlineHyPlayerCache.remove(uniqueId);
+                removeCachedHyPlayer(uniqueId);
+            }, DatabaseProvider.getApi().getExecutorService());
+        } catch (RejectedExecutionException e) {
+            // Fail instead of blocking the calling (world) thread on the database
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @Override
     public void loadHyPlayer(UUID uniqueId, Consumer<HyPlayer> result) {
-        this.hyPlayerRepository.getAsync(HyPlayerRepository.PLAYER_ID_COL, UuidUtils.uuidToBytes(uniqueId)).thenAccept(hyPlayer -> {
+        loadHyPlayer(uniqueId, result, throwable -> Logger.getGlobal().log(Level.WARNING, "Failed to load HyPlayer " + uniqueId, throwable));
+    }
+
+    @Override
+    public void loadHyPlayer(UUID uniqueId, Consumer<HyPlayer> result, Consumer<Throwable> failure) {
+        this.hyPlayerRepository.getAsync(HyPlayerRepository.PLAYER_ID_COL, UuidUtils.uuidToBytes(uniqueId), LOAD_TIMEOUT).thenApply(this::applyPendingChanges).whenComplete((hyPlayer, throwable) -> {
+            if (throwable != null) {
+                // Not calling back with null here: the caller would treat the player as new and overwrite it
+                runCallback(uniqueId, () -> failure.accept(throwable));
+                return;
+            }
             if (hyPlayer != null) {
                 cacheHyPlayer(uniqueId, hyPlayer);
             }
-            result.accept(hyPlayer);
+            runCallback(uniqueId, () -> result.accept(hyPlayer));
         });
     }
 
@@ -115,37 +210,92 @@ public class HyPlayerServiceImpl implements HyPlayerService {
 
     @Override
     public void changeUsername(UUID uniqueId, String newUsername) {
-        DatabaseProvider.getApi().execute(() -> {
-            this.hyPlayerRepository.changeUsername(uniqueId, newUsername);
-
-            HyPlayer hyPlayer = getOnlineHyPlayer(uniqueId);
-            if (hyPlayer == null) return;
-
-            hyPlayer.setUsername(newUsername);
-        });
+        HyPlayerChange change = HyPlayerChange.ofUsername(newUsername);
+        applyToCachedHyPlayers(uniqueId, change);
+        this.pendingChanges.enqueue(uniqueId, change);
     }
 
     @Override
     public void changeLanguage(UUID uniqueId, Lang lang) {
-        DatabaseProvider.getApi().execute(() -> {
-            this.hyPlayerRepository.changeLanguage(uniqueId, lang);
+        if (lang == null) {
+            throw new NullPointerException("Lang cannot be null");
+        }
 
-            HyPlayer hyPlayer = getOnlineHyPlayer(uniqueId);
-            if (hyPlayer == null) return;
+        HyPlayerChange change = HyPlayerChange.ofLanguage(lang);
+        applyToCachedHyPlayers(uniqueId, change);
+        this.pendingChanges.enqueue(uniqueId, change);
 
-            hyPlayer.setLanguage(lang);
+        if (getOnlineHyPlayer(uniqueId) == null) return;
 
-            EventBus eventBus = HytaleServer.get().getEventBus();
-            IEventDispatcher<LanguageChangeEvent, LanguageChangeEvent> dispatcher = eventBus.dispatchFor(LanguageChangeEvent.class);
-            if (dispatcher.hasListener()) {
-                PlayerRef playerRef = Universe.get().getPlayer(uniqueId);
-                if (playerRef == null) return;
+        EventBus eventBus = HytaleServer.get().getEventBus();
+        IEventDispatcher<LanguageChangeEvent, LanguageChangeEvent> dispatcher = eventBus.dispatchFor(LanguageChangeEvent.class);
+        if (dispatcher.hasListener()) {
+            PlayerRef playerRef = Universe.get().getPlayer(uniqueId);
+            if (playerRef == null) return;
 
-                LanguageChangeEvent event = new LanguageChangeEvent(playerRef, lang);
-                dispatcher.dispatch(event);
+            LanguageChangeEvent event = new LanguageChangeEvent(playerRef, lang);
+            dispatcher.dispatch(event);
+        }
+    }
+
+    @Override
+    public void flushPendingChanges() {
+        this.pendingChanges.flush();
+    }
+
+    @Override
+    public void flushPendingChanges(UUID uniqueId) {
+        try {
+            DatabaseProvider.getApi().execute(() -> {
+                try {
+                    this.pendingChanges.flush(uniqueId);
+                } catch (RuntimeException e) {
+                    // The changes were put back and are retried by the next periodic flush
+                    Logger.getGlobal().log(Level.WARNING, "Failed to flush the changes of HyPlayer " + uniqueId + ", retrying with the periodic flush", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The changes stay buffered and are written by the next periodic flush
+            Logger.getGlobal().log(Level.WARNING, "Database executor saturated, leaving the changes of HyPlayer " + uniqueId + " to the periodic flush", e);
+        }
+    }
+
+    // Callback errors are the caller's and must not be reported as load failures
+    private static void runCallback(UUID uniqueId, Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            Logger.getGlobal().log(Level.WARNING, "HyPlayer load callback failed for " + uniqueId, e);
+        }
+    }
+
+    private void applyToCachedHyPlayers(UUID uniqueId, HyPlayerChange change) {
+        HyPlayer onlineHyPlayer = this.hyPlayerCache.getValue(uniqueId);
+        if (onlineHyPlayer != null) {
+            if (change.username() != null) {
+                // Through the cache so its username index follows the rename
+                this.hyPlayerCache.rename(uniqueId, change.username());
             }
-        });
+            if (change.language() != null) {
+                onlineHyPlayer.setLanguage(change.language());
+            }
+        }
+        HyPlayer offlineHyPlayer = this.offlineHyPlayerCache.getValue(uniqueId);
+        if (offlineHyPlayer != null && offlineHyPlayer != onlineHyPlayer) {
+            change.applyTo(offlineHyPlayer);
+        }
     }
 
+    // Players read from the database do not contain changes that are still buffered
+    private HyPlayer applyPendingChanges(HyPlayer hyPlayer) {
+        if (hyPlayer == null) {
+            return null;
+        }
+        HyPlayerChange change = this.pendingChanges.getPending(hyPlayer.getUniqueId());
+        if (change != null) {
+            change.applyTo(hyPlayer);
+        }
+        return hyPlayer;
+    }
 
 }
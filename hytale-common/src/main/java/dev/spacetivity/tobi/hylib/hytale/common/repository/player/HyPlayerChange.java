@@ -0,0 +1,40 @@
+package dev.spacetivity.tobi.hylib.hytale.common.repository.player;
+
+import dev.spacetivity.tobi.hylib.hytale.api.localization.Lang;
+import dev.spacetivity.tobi.hylib.hytale.api.player.HyPlayer;
+
+/**
+ * Pending, not yet persisted change to a player row. A null field is left unchanged.
+ */
+public record HyPlayerChange(String username, Lang language) {
+
+    public static HyPlayerChange ofUsername(String username) {
+        return new HyPlayerChange(username, null);
+    }
+
+    public static HyPlayerChange ofLanguage(Lang language) {
+        return new HyPlayerChange(null, language);
+    }
+
+    /**
+     * Combines two changes to the same player; fields of the newer change win.
+     */
+    public static HyPlayerChange merge(HyPlayerChange older, HyPlayerChange newer) {
+        return new HyPlayerChange(
+                newer.username != null ? newer.username : older.username,
+                newer.language != null ? newer.language : older.language
+        );
+    }
+
+    /**
+     * Applies this change to a player loaded from the database before the change was written.
+     */
+    public void applyTo(HyPlayer hyPlayer) {
+        if (this.username != null) {
+            hyPlayer.setUsername(this.username);
+        }
+        if (this.language != null) {
+            hyPlayer.setLanguage(this.language);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package dev.spacetivity.tobi.hylib.hytale.common.repository.player;
 
 import dev.spacetivity.tobi.hylib.database.api.connection.DatabaseConnectionHandler;
+import dev.spacetivity.tobi.hylib.database.api.connection.ReadPreference;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.*;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.BuiltQuery;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.PreparedQuery;
 import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.builder.SqlBuilder;
 import dev.spacetivity.tobi.hylib.database.api.repository.Repository;
 import dev.spacetivity.tobi.hylib.database.api.repository.impl.AbstractMariaDbRepository;
@@ -15,7 +18,13 @@ import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class HyPlayerRepository extends AbstractMariaDbRepository<HyPlayer> implements Repository {
 
@@ -25,6 +34,28 @@ public class HyPlayerRepository extends AbstractMariaDbRepository<HyPlayer> impl
     public static final Column PLAYER_NAME_COL = Column.of("player_name");
     public static final Column LANGUAGE_COL = Column.of("language");
 
+    // Only the username may be overwritten by a create; the stored language always wins
+    private static final List<Column> CREATE_UPDATE_COLUMNS = List.of(PLAYER_NAME_COL);
+
+    private static final PreparedQuery CHANGE_USERNAME_QUERY = PreparedQuery.of(SqlBuilder
+            .update(HY_PLAYERS_TABLE)
+            .set(PLAYER_NAME_COL, null)
+            .where(PLAYER_ID_COL, null)
+            .build());
+
+    private static final PreparedQuery CHANGE_LANGUAGE_QUERY = PreparedQuery.of(SqlBuilder
+            .update(HY_PLAYERS_TABLE)
+            .set(LANGUAGE_COL, null)
+            .where(PLAYER_ID_COL, null)
+            .build());
+
+    private static final PreparedQuery CHANGE_USERNAME_AND_LANGUAGE_QUERY = PreparedQuery.of(SqlBuilder
+            .update(HY_PLAYERS_TABLE)
+            .set(PLAYER_NAME_COL, null)
+            .set(LANGUAGE_COL, null)
+            .where(PLAYER_ID_COL, null)
+            .build());
+
     public HyPlayerRepository(DatabaseConnectionHandler db, Connection connection) {
         super(db, TableDefinition.create(
                 connection,
@@ -41,48 +72,91 @@ public class HyPlayerRepository extends AbstractMariaDbRepository<HyPlayer> impl
             UUID uniqueId = UuidUtils.bytesToUuid(resultSet.getBytes(PLAYER_ID_COL.name()));
             String username = resultSet.getString(PLAYER_NAME_COL.name());
             String languageCode = resultSet.getString(LANGUAGE_COL.name());
-            // Convert string from DB to Lang object
-            Lang lang;
-            if (languageCode != null) {
-                lang = Lang.of(languageCode);
-            } else {
-                LocalizationService localizationService = HytaleProvider.getApi().getLocalizationService();
-                lang = localizationService.getDefaultLanguage();
-            }
-            return new HyPlayerImpl(uniqueId, username, lang);
+            return toHyPlayer(uniqueId, username, languageCode);
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public RowMapper<HyPlayer> bindDeserializer(ColumnIndex columns) {
+        int playerId = columns.indexOf(PLAYER_ID_COL);
+        int playerName = columns.indexOf(PLAYER_NAME_COL);
+        int language = columns.indexOf(LANGUAGE_COL);
+        return resultSet -> toHyPlayer(UuidUtils.bytesToUuid(resultSet.getBytes(playerId)),
+                resultSet.getString(playerName), resultSet.getString(language));
+    }
+
+    private HyPlayer toHyPlayer(UUID uniqueId, String username, String languageCode) {
+        // Convert string from DB to Lang object
+        Lang lang;
+        if (languageCode != null) {
+            lang = Lang.of(languageCode);
+        } else {
+            LocalizationService localizationService = HytaleProvider.getApi().getLocalizationService();
+            lang = localizationService.getDefaultLanguage();
+        }
+        return new HyPlayerImpl(uniqueId, username, lang);
+    }
+
     @Override
     public void insert(HyPlayer hyPlayer) {
-        byte[] uuidBytes = uuidToBytes(hyPlayer.getUniqueId());
-        executeUpdate(SqlBuilder
-                .insertInto(getTable())
-                .value(PLAYER_ID_COL, uuidBytes)
-                .value(PLAYER_NAME_COL, hyPlayer.getUsername())
-                .value(LANGUAGE_COL, hyPlayer.getLanguage().getCode()) // Store as string in DB
-                .build()
-        );
+        executeUpdate(buildInsert(hyPlayer));
+    }
+
+    @Override
+    protected Map<Column, Object> serialize(HyPlayer hyPlayer) {
+        Map<Column, Object> values = new LinkedHashMap<>();
+        values.put(PLAYER_ID_COL, uuidToBytes(hyPlayer.getUniqueId()));
+        values.put(PLAYER_NAME_COL, hyPlayer.getUsername());
+        values.put(LANGUAGE_COL, hyPlayer.getLanguage().getCode()); // Store as string in DB
+        return values;
+    }
+
+    /**
+     * Creates the player, or only updates the username if the player already exists.
+     */
+    public void create(HyPlayer hyPlayer) {
+        save(hyPlayer, CREATE_UPDATE_COLUMNS);
+    }
+
+    /**
+     * Creates the player or updates their username in one write, then reads the stored player from the
+     * primary, so an existing player's language is returned even if replicas lag behind.
+     */
+    public CompletableFuture<HyPlayer> createAndGetAsync(HyPlayer hyPlayer, Duration timeout) {
+        return supplyAsync(() -> {
+            create(hyPlayer);
+            return getSync(PLAYER_ID_COL, uuidToBytes(hyPlayer.getUniqueId()), ReadPreference.PRIMARY);
+        }, timeout);
     }
 
     public void changeUsername(UUID uniqueId, String newUsername) {
         byte[] uuidBytes = uuidToBytes(uniqueId);
-        executeUpdate(SqlBuilder
-                .update(getTable())
-                .set(PLAYER_NAME_COL, newUsername)
-                .where(PLAYER_ID_COL, uuidBytes)
-                .build());
+        executeUpdate(CHANGE_USERNAME_QUERY.bind(newUsername, uuidBytes));
     }
 
     public void changeLanguage(UUID uniqueId, Lang lang) {
         byte[] uuidBytes = uuidToBytes(uniqueId);
-        executeUpdate(SqlBuilder
-                .update(getTable())
-                .set(LANGUAGE_COL, lang.getCode()) // Store as string in DB
-                .where(PLAYER_ID_COL, uuidBytes)
-                .build());
+        executeUpdate(CHANGE_LANGUAGE_QUERY.bind(lang.getCode(), uuidBytes)); // Store as string in DB
+    }
+
+    /**
+     * Writes buffered changes of several players in one batch.
+     */
+    public void applyChanges(Map<UUID, HyPlayerChange> changes) {
+        List<BuiltQuery> queries = new ArrayList<>(changes.size());
+        changes.forEach((uniqueId, change) -> {
+            byte[] uuidBytes = uuidToBytes(uniqueId);
+            if (change.username() != null && change.language() != null) {
+                queries.add(CHANGE_USERNAME_AND_LANGUAGE_QUERY.bind(change.username(), change.language().getCode(), uuidBytes));
+            } else if (change.username() != null) {
+                queries.add(CHANGE_USERNAME_QUERY.bind(change.username(), uuidBytes));
+            } else if (change.language() != null) {
+                queries.add(CHANGE_LANGUAGE_QUERY.bind(change.language().getCode(), uuidBytes));
+            }
+        });
+        executeBatch(queries);
     }
 
     private byte[] uuidToBytes(UUID uuid) {
@@ -1,9 +1,98 @@
 package dev.spacetivity.tobi.hylib.hytale.common.repository.player.cache;
 
-import dev.spacetivity.tobi.hylib.database.api.cache.AbstractInMemoryCache;
+import dev.spacetivity.tobi.hylib.database.api.cache.AbstractUuidKeyedCache;
 import dev.spacetivity.tobi.hylib.hytale.api.player.HyPlayer;
 
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
 
-public class HyPlayerCache extends AbstractInMemoryCache<UUID, HyPlayer> {
+/**
+ * Online players by UUID, with a case-insensitive username index.
+ *
+ * <p>All writes go through {@link #compute(UUID, BiFunction)}, so the index is updated atomically
+ * with the entry. Rename cached players via {@link #rename(UUID, String)}; a direct
+ * {@link HyPlayer#setUsername(String)} is not seen by the index.
+ */
+public class HyPlayerCache extends AbstractUuidKeyedCache<HyPlayer> {
+
+    private final ConcurrentMap<String, UUID> usernameIndex = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, String> indexedUsernames = new ConcurrentHashMap<>();
+
+    public HyPlayerCache() {
+        recordStats();
+    }
+
+    @Override
+    public void insert(UUID key, HyPlayer value) {
+        compute(key, (uniqueId, current) -> value);
+    }
+
+    @Override
+    public boolean update(UUID key, HyPlayer value) {
+        return compute(key, (uniqueId, current) -> current != null ? value : null) != null;
+    }
+
+    @Override
+    public void remove(UUID key) {
+        compute(key, (uniqueId, current) -> null);
+    }
+
+    @Override
+    public HyPlayer compute(UUID key, BiFunction<? super UUID, ? super HyPlayer, ? extends HyPlayer> remappingFunction) {
+        return super.compute(key, (uniqueId, current) -> {
+            HyPlayer updated = remappingFunction.apply(uniqueId, current);
+            reindex(uniqueId, updated);
+            return updated;
+        });
+    }
+
+    /**
+     * Changes the username of a cached player and updates the index.
+     *
+     * @return true if the player was cached
+     */
+    public boolean rename(UUID uniqueId, String newUsername) {
+        return compute(uniqueId, (key, current) -> {
+            if (current != null) {
+                current.setUsername(newUsername);
+            }
+            return current;
+        }) != null;
+    }
+
+    /**
+     * Returns the cached player with the given username, ignoring case, or null.
+     */
+    public HyPlayer getByUsername(String username) {
+        UUID uniqueId = this.usernameIndex.get(normalize(username));
+        if (uniqueId == null) {
+            return null;
+        }
+        HyPlayer hyPlayer = getValue(uniqueId);
+        // Guards against a concurrent rename between the two lookups
+        if (hyPlayer == null || !username.equalsIgnoreCase(hyPlayer.getUsername())) {
+            return null;
+        }
+        return hyPlayer;
+    }
+
+    // Runs inside compute, under the cache's write lock
+    private void reindex(UUID uniqueId, HyPlayer hyPlayer) {
+        String previous = this.indexedUsernames.remove(uniqueId);
+        if (previous != null) {
+            this.usernameIndex.remove(previous, uniqueId);
+        }
+        if (hyPlayer != null && hyPlayer.getUsername() != null) {
+            String username = normalize(hyPlayer.getUsername());
+            this.indexedUsernames.put(uniqueId, username);
+            this.usernameIndex.put(username, uniqueId);
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
 }
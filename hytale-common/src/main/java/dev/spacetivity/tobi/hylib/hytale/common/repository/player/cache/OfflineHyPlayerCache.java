@@ -0,0 +1,30 @@
+package dev.spacetivity.tobi.hylib.hytale.common.repository.player.cache;
+
+import dev.spacetivity.tobi.hylib.database.api.cache.AbstractLoadingCache;
+import dev.spacetivity.tobi.hylib.database.api.connection.impl.sql.UuidUtils;
+import dev.spacetivity.tobi.hylib.hytale.api.player.HyPlayer;
+import dev.spacetivity.tobi.hylib.hytale.common.repository.player.HyPlayerRepository;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public class OfflineHyPlayerCache extends AbstractLoadingCache<UUID, HyPlayer> {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final HyPlayerRepository hyPlayerRepository;
+
+    public OfflineHyPlayerCache(HyPlayerRepository hyPlayerRepository) {
+        super(MAXIMUM_SIZE, EXPIRE_AFTER_WRITE, NEGATIVE_TTL);
+        this.hyPlayerRepository = hyPlayerRepository;
+        recordStats();
+    }
+
+    @Override
+    protected CompletableFuture<HyPlayer> load(UUID uniqueId) {
+        return this.hyPlayerRepository.getAsync(HyPlayerRepository.PLAYER_ID_COL, UuidUtils.uuidToBytes(uniqueId));
+    }
+}